@@ -0,0 +1,72 @@
+/**
+ *	Name: AnalysisInput.java
+ *	Purpose: Input files of one analysis, as produced by CCFinderX for a source code file or for a whole project
+ */
+
+public final class AnalysisInput {
+
+	private final String prettyPrint;
+	private final String tokenFile;
+	private final String cloneMetrics;
+	private final String lineMetrics;
+	private final String sourceCode;
+	private final boolean project;
+
+	/**
+	 * @param prettyPrint - prettyPrint.tsv, clone pairs
+	 * @param tokenFile - tokenfile.ccfxprep
+	 * @param cloneMetrics - cloneM.tsv
+	 * @param lineMetrics - lineM.tsv
+	 * @param sourceCode - the actual source code: S
+	 */
+	public AnalysisInput(String prettyPrint, String tokenFile, String cloneMetrics, String lineMetrics, String sourceCode){
+		this(prettyPrint, tokenFile, cloneMetrics, lineMetrics, sourceCode, false);
+	}
+
+	private AnalysisInput(String prettyPrint, String tokenFile, String cloneMetrics, String lineMetrics, String sourceCode, boolean project){
+		this.prettyPrint = prettyPrint;
+		this.tokenFile = tokenFile;
+		this.cloneMetrics = cloneMetrics;
+		this.lineMetrics = lineMetrics;
+		this.sourceCode = sourceCode;
+		this.project = project;
+	}
+
+	/**
+	 * Input of a whole project, every file listed in the source_files section of prettyPrint.tsv is analysed
+	 * @param prettyPrint - prettyPrint.tsv, source files and clone pairs
+	 * @param tokenSuffix - added to the path of a source file to get its token file, ex: ".java.2_0_0_2.default.ccfxprep"
+	 * @param cloneMetrics - cloneM.tsv
+	 * @param lineMetrics - lineM.tsv, one row per FID
+	 * @param sourceRoot - directory relative source file paths are resolved against
+	 * @return input of a project analysis
+	 */
+	public static AnalysisInput project(String prettyPrint, String tokenSuffix, String cloneMetrics, String lineMetrics, String sourceRoot){
+		return new AnalysisInput(prettyPrint, tokenSuffix, cloneMetrics, lineMetrics, sourceRoot, true);
+	}
+
+	//true for a project analysis, then tokenFile is the token file suffix and sourceCode the source root
+	public boolean isProject(){
+		return project;
+	}
+
+	public String prettyPrint(){
+		return prettyPrint;
+	}
+
+	public String tokenFile(){
+		return tokenFile;
+	}
+
+	public String cloneMetrics(){
+		return cloneMetrics;
+	}
+
+	public String lineMetrics(){
+		return lineMetrics;
+	}
+
+	public String sourceCode(){
+		return sourceCode;
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ *	Name: AnalysisOptions.java
+ *	Purpose: Immutable options of one analysis, built with AnalysisOptions.builder()
+ */
+
+public final class AnalysisOptions {
+
+	private final boolean largest;
+	private final float filterValue;
+	private final boolean cache;
+	private final boolean bounds;
+	private final int threads;
+	private final String state;
+	private final TokenCache tokenCache;
+	private final MetricFilter filter;
+	private final long budget;
+
+	private AnalysisOptions(Builder builder){
+		largest = builder.largest;
+		filterValue = builder.filterValue;
+		cache = builder.cache;
+		bounds = builder.bounds;
+		threads = builder.threads;
+		state = builder.state;
+		tokenCache = builder.tokenCache;
+		filter = builder.filter;
+		budget = builder.budget;
+	}
+
+	//true to compute the smallest length assumption alongside the largest, see AnalysisResult.smallest
+	public boolean bounds(){
+		return bounds;
+	}
+
+	//threads of the per-CID stages, 1 runs them on the calling thread
+	public int threads(){
+		return threads;
+	}
+
+	//project state file of an incremental analysis, see ProjectState, null to analyse everything
+	public String state(){
+		return state;
+	}
+
+	//token line tables shared with other analyses, see AnalysisServer, null to read the token files every time
+	public TokenCache tokenCache(){
+		return tokenCache;
+	}
+
+	//bytes a single file analysis may use for the token file through PairLines, 0 to hold the line of every token
+	public long budget(){
+		return budget;
+	}
+
+	/**
+	 * Refuses options that can't be combined, the one place these rules are kept for the command line, the server and the API
+	 * @param project - true for a project analysis, see AnalysisInput.project
+	 * @param sweep - true for an RNR sweep, see Engine.sweepRNR
+	 * @throws IllegalArgumentException naming the options in conflict
+	 */
+	public void validate(boolean project, boolean sweep){
+		if(project && sweep){
+			throw new IllegalArgumentException("-sweep can't be combined with -project");
+		}
+		if(bounds && sweep){
+			throw new IllegalArgumentException("-b can't be combined with -sweep");
+		}
+		if(state != null && !project){
+			throw new IllegalArgumentException("-state needs -project");
+		}
+		if(cache && project){
+			throw new IllegalArgumentException("-cache can't be combined with -project");
+		}
+		if(budget > 0 && (project || cache)){
+			throw new IllegalArgumentException("-budget can't be combined with -project or -cache");
+		}
+	}
+
+	public static Builder builder(){
+		return new Builder();
+	}
+
+	//true to assume the largest length from clone pairs, false for the smallest
+	public boolean largest(){
+		return largest;
+	}
+
+	//CIDs with RNR of less than this are filtered out, unless there is a filter
+	public float filterValue(){
+		return filterValue;
+	}
+
+	//predicate over cloneM.tsv that replaces the RNR filter value, null to filter on RNR only
+	public MetricFilter filter(){
+		return filter;
+	}
+
+	//true to reuse the parsed inputs through a binary sidecar, see InputSnapshot
+	public boolean cache(){
+		return cache;
+	}
+
+	public static final class Builder {
+
+		private boolean largest = true;
+		private float filterValue = .5f;
+		private boolean cache = false;
+		private boolean bounds = false;
+		private int threads = 1;
+		private String state = null;
+		private TokenCache tokenCache = null;
+		private MetricFilter filter = null;
+		private long budget = 0;
+
+		private Builder(){
+		}
+
+		public Builder largest(boolean largest){
+			this.largest = largest;
+			return this;
+		}
+
+		public Builder filterValue(float filterValue){
+			this.filterValue = filterValue;
+			return this;
+		}
+
+		public Builder filter(MetricFilter filter){
+			this.filter = filter;
+			return this;
+		}
+
+		public Builder cache(boolean cache){
+			this.cache = cache;
+			return this;
+		}
+
+		public Builder bounds(boolean bounds){
+			this.bounds = bounds;
+			return this;
+		}
+
+		public Builder threads(int threads){
+			if(threads < 1){
+				throw new IllegalArgumentException("threads must be at least 1: " + threads);
+			}
+			this.threads = threads;
+			return this;
+		}
+
+		public Builder state(String state){
+			this.state = state;
+			return this;
+		}
+
+		public Builder tokenCache(TokenCache tokenCache){
+			this.tokenCache = tokenCache;
+			return this;
+		}
+
+		public Builder budget(long budget){
+			if(budget < 0){
+				throw new IllegalArgumentException("budget can't be negative: " + budget);
+			}
+			this.budget = budget;
+			return this;
+		}
+
+		public AnalysisOptions build(){
+			return new AnalysisOptions(this);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/**
+ *	Name: AnalysisResult.java
+ *	Purpose: Immutable result of one analysis: |S|, TCL, |S'|, PR and one row per CID
+ */
+
+import java.util.List;
+
+public final class AnalysisResult {
+
+	private final int SLOC;
+	private final int TCL;
+	private final int refactoredSize;
+	private final float PR;
+	private final int calls;
+	private final int FIDCalls;
+	private final int addBack;
+	private final int[][] matrixCID; //CID POP LENGTH CSIZE CHUNKS
+	private final String[] addBackChains;
+	//kept for the s-prime and FID list outputs, never changed after the analysis
+	private final LineAttributes attributes;
+	private final int[] beginnings;
+	private final FunctionIDs functionIDs;
+	private final List<StageTimer.Stage> stages;
+	private final AnalysisResult smallest; //same analysis assuming the smallest lengths, null unless bounds were asked for
+
+	AnalysisResult(int SLOC, int TCL, int refactoredSize, float PR, int calls, int FIDCalls, int addBack,
+			int[][] matrixCID, String[] addBackChains, LineAttributes attributes, int[] beginnings, FunctionIDs functionIDs,
+			List<StageTimer.Stage> stages, AnalysisResult smallest){
+		this.SLOC = SLOC;
+		this.TCL = TCL;
+		this.refactoredSize = refactoredSize;
+		this.PR = PR;
+		this.calls = calls;
+		this.FIDCalls = FIDCalls;
+		this.addBack = addBack;
+		this.matrixCID = new int[matrixCID.length][];
+		for(int i = 0; i < matrixCID.length; i++){
+			this.matrixCID[i] = matrixCID[i].clone();
+		}
+		this.addBackChains = addBackChains.clone();
+		this.attributes = attributes;
+		this.beginnings = beginnings;
+		this.functionIDs = functionIDs;
+		this.stages = stages;
+		this.smallest = smallest;
+	}
+
+	//|S|, source code size (without whitespace)
+	public int sloc(){
+		return SLOC;
+	}
+
+	//TCL, total clone length
+	public int tcl(){
+		return TCL;
+	}
+
+	//|S'|, refactored size
+	public int refactoredSize(){
+		return refactoredSize;
+	}
+
+	//PR, percent refactored
+	public float pr(){
+		return PR;
+	}
+
+	//FC, calls inserted in place of clones
+	public int calls(){
+		return calls;
+	}
+
+	//MD, chunks turned into methods
+	public int fidCalls(){
+		return FIDCalls;
+	}
+
+	//AB, lines added back
+	public int addBack(){
+		return addBack;
+	}
+
+	//time, allocation and counts of every stage of the analysis, in the order they ran
+	public List<StageTimer.Stage> stages(){
+		return stages;
+	}
+
+	//the analysis assuming the smallest length of each CID, null unless AnalysisOptions.bounds was set
+	public AnalysisResult smallest(){
+		return smallest;
+	}
+
+	//true if the result holds both length assumptions
+	public boolean hasBounds(){
+		return smallest != null;
+	}
+
+	//lower bound of |S'| over the largest and smallest length assumptions
+	public int refactoredSizeLow(){
+		return smallest == null ? refactoredSize : Math.min(refactoredSize, smallest.refactoredSize);
+	}
+
+	//upper bound of |S'|
+	public int refactoredSizeHigh(){
+		return smallest == null ? refactoredSize : Math.max(refactoredSize, smallest.refactoredSize);
+	}
+
+	//lower bound of PR, from the upper bound of |S'|
+	public float prLow(){
+		return smallest == null ? PR : Math.min(PR, smallest.PR);
+	}
+
+	//upper bound of PR
+	public float prHigh(){
+		return smallest == null ? PR : Math.max(PR, smallest.PR);
+	}
+
+	//number of CIDs left after filtering
+	public int rows(){
+		return matrixCID.length;
+	}
+
+	//CID POP LENGTH CSIZE CHUNKS of a CID
+	public int[] row(int i){
+		return matrixCID[i].clone();
+	}
+
+	//CIDs contained in a CID, ex: "5.7", "-" if there are none
+	public String contains(int i){
+		return addBackChains[i];
+	}
+
+	int[][] matrixCID(){
+		return matrixCID;
+	}
+
+	String[] addBackChains(){
+		return addBackChains;
+	}
+
+	LineAttributes attributes(){
+		return attributes;
+	}
+
+	int[] beginnings(){
+		return beginnings;
+	}
+
+	//null for a project analysed from a state, see AnalysisOptions.state
+	FunctionIDs functionIDs(){
+		return functionIDs;
+	}
+}
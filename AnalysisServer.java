@@ -0,0 +1,270 @@
+/**
+ *	Name: AnalysisServer.java
+ *	Purpose: Runs analyses for local clients in one long-lived JVM, so the Engine stays compiled and token files are parsed once.
+ *	POST /analyze takes the arguments of RefactorCalculator, one per line, and answers with what it would print.
+ *	GET /stats answers with request, latency and token cache counters as JSON, POST /shutdown stops the server.
+ */
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.cli.ParseException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class AnalysisServer {
+
+	private static final int BUCKETS = 32; //latency bucket i holds requests of less than 2^i milliseconds
+
+	private final HttpServer server;
+	private final ExecutorService workers;
+	private final TokenCache tokenCache;
+	private final long started = System.nanoTime();
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	private final AtomicLong active = new AtomicLong();
+	private volatile boolean stopping; //set by stop, new analyses are refused
+	private final AtomicLong totalNanos = new AtomicLong();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final AtomicLongArray latency = new AtomicLongArray(BUCKETS);
+
+	/**
+	 * Starts serving on the loopback address
+	 * @param port - port to listen on, 0 for any free port
+	 * @param cacheBytes - memory budget of the token line tables kept between requests
+	 * @throws IOException
+	 */
+	AnalysisServer(int port, long cacheBytes) throws IOException{
+		tokenCache = new TokenCache(cacheBytes);
+		workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.setExecutor(workers);
+		server.createContext("/analyze", new HttpHandler(){
+			public void handle(HttpExchange exchange) throws IOException{
+				analyze(exchange);
+			}
+		});
+		server.createContext("/stats", new HttpHandler(){
+			public void handle(HttpExchange exchange) throws IOException{
+				respond(exchange, 200, "application/json", stats());
+			}
+		});
+		server.createContext("/shutdown", new HttpHandler(){
+			public void handle(HttpExchange exchange) throws IOException{
+				if(!exchange.getRequestMethod().equals("POST")){
+					respond(exchange, 405, "text/plain", "POST to stop the server\n");
+					return;
+				}
+				respond(exchange, 200, "text/plain", "Stopping\n");
+				new Thread(new Runnable(){ //not on a worker, stop waits for the exchanges to finish
+					public void run(){
+						stop();
+					}
+				}, "server-stop").start();
+			}
+		});
+		server.start();
+	}
+
+	//port the server listens on
+	int port(){
+		return server.getAddress().getPort();
+	}
+
+	//refuses new analyses, waits for the running ones to answer, then stops the server
+	void stop(){
+		stopping = true;
+		synchronized(active){
+			while(active.get() > 0){
+				try{
+					active.wait();
+				} catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		server.stop(1);
+		workers.shutdown();
+	}
+
+	/**
+	 * Runs one analysis on its own Engine, the output is what RefactorCalculator prints to the console.
+	 * Output files (-o, -p, -f, -report) aren't written, a client reads the response instead.
+	 */
+	private void analyze(HttpExchange exchange) throws IOException{
+		if(!exchange.getRequestMethod().equals("POST")){
+			respond(exchange, 405, "text/plain", "POST the arguments of RefactorCalculator, one per line\n");
+			return;
+		}
+		active.incrementAndGet(); //counted before checking stopping, so stop either sees this request or refuses it
+		if(stopping){
+			finished();
+			respond(exchange, 503, "text/plain", "The server is stopping\n");
+			return;
+		}
+		long start = System.nanoTime();
+		ByteArrayOutputStream text = new ByteArrayOutputStream();
+		PrintStream console = new PrintStream(text, true, "UTF-8");
+		try{
+			int status = run(arguments(exchange), console);
+			record(System.nanoTime() - start, status != 200);
+			respond(exchange, status, "text/plain", new String(text.toByteArray(), StandardCharsets.UTF_8));
+		} finally{
+			finished();
+		}
+	}
+
+	/**
+	 * @param arguments - arguments of the request
+	 * @param console - gets what RefactorCalculator would print
+	 * @return status of the response
+	 */
+	private int run(String[] arguments, PrintStream console){
+		int status = 200;
+		try{
+			Engine engine = new Engine();
+			engine.console(console);
+			if(!engine.handleArguments(arguments)){
+				status = engine.ifHelp() ? 200 : 400;
+			}
+			else if(engine.ifServe()){
+				status = 400;
+				console.println("-serve can't be sent to a server.");
+			}
+			else if(engine.writesFiles()){
+				status = 400;
+				console.println("Files (-o, -p, -f, -mo, -report, -cache, -state) are not written by the server.");
+			}
+			else{
+				AnalysisInput input = engine.analysisInput();
+				AnalysisOptions options = engine.optionsBuilder().tokenCache(tokenCache).build();
+				if(engine.ifSweep()){
+					RNRSweep sweep = Engine.sweepRNR(input, options, engine.sweepValues());
+					if(engine.ifDisplayVersion()){
+						engine.displayVersion();
+					}
+					engine.sweepOutput(sweep, input.sourceCode());
+				}
+				else{
+					AnalysisResult result = Engine.analyze(input, options);
+					if(engine.ifDisplayVersion()){
+						engine.displayVersion();
+					}
+					engine.mainOutput(result, input.sourceCode());
+				}
+			}
+		} catch(ParseException e){
+			status = 400;
+			console.println("Check your arguments and try again. " + e.getMessage());
+		} catch(IOException e){
+			status = 500;
+			console.println("Error: " + e.getMessage());
+		} catch(NumberFormatException e){ //bad numbers in the input files the request named
+			status = 400;
+			console.println("Check your arguments and try again. " + e.getMessage());
+		} catch(RuntimeException e){ //the server keeps going
+			status = 500;
+			console.println("Error: " + e);
+		}
+		return status;
+	}
+
+	//one analysis less running, wakes up stop when it was the last
+	private void finished(){
+		synchronized(active){
+			if(active.decrementAndGet() == 0){
+				active.notifyAll();
+			}
+		}
+	}
+
+	//arguments of the request body, one per line, blank lines skipped
+	private static String[] arguments(HttpExchange exchange) throws IOException{
+		BufferedReader br = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+		ArrayList<String> arguments = new ArrayList<String>();
+		String strLine;
+		while((strLine = br.readLine()) != null){
+			if(!strLine.trim().isEmpty()){
+				arguments.add(strLine.trim());
+			}
+		}
+		br.close();
+		return arguments.toArray(new String[arguments.size()]);
+	}
+
+	private void record(long nanos, boolean failed){
+		requests.incrementAndGet();
+		if(failed){
+			failures.incrementAndGet();
+		}
+		totalNanos.addAndGet(nanos);
+		long max = maxNanos.get();
+		while(nanos > max && !maxNanos.compareAndSet(max, nanos)){
+			max = maxNanos.get();
+		}
+		long millis = nanos / 1000000;
+		int bucket = 64 - Long.numberOfLeadingZeros(millis); //0 for under 1 ms, i for under 2^i ms
+		latency.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+	}
+
+	/**
+	 * @return throughput, latency and token cache counters. Percentiles are the upper bound of their power of two bucket.
+	 */
+	String stats(){
+		long count = requests.get();
+		double uptime = (System.nanoTime() - started) / 1e9;
+		StringBuilder json = new StringBuilder();
+		json.append("{\n");
+		json.append("  \"uptimeSeconds\": ").append(String.format("%.3f", uptime)).append(",\n");
+		json.append("  \"requests\": ").append(count).append(",\n");
+		json.append("  \"failures\": ").append(failures.get()).append(",\n");
+		json.append("  \"active\": ").append(active.get()).append(",\n");
+		json.append("  \"requestsPerSecond\": ").append(String.format("%.3f", uptime > 0 ? count / uptime : 0)).append(",\n");
+		json.append("  \"meanMillis\": ").append(String.format("%.3f", count > 0 ? totalNanos.get() / 1e6 / count : 0)).append(",\n");
+		json.append("  \"maxMillis\": ").append(String.format("%.3f", maxNanos.get() / 1e6)).append(",\n");
+		json.append("  \"p50Millis\": ").append(percentile(count, .5)).append(",\n");
+		json.append("  \"p99Millis\": ").append(percentile(count, .99)).append(",\n");
+		json.append("  ").append(tokenCache.toJson()).append("\n");
+		json.append("}\n");
+		return json.toString();
+	}
+
+	//upper bound in milliseconds of the bucket holding the given share of requests, 0 before any request
+	private long percentile(long count, double share){
+		long seen = 0;
+		for(int i = 0; i < BUCKETS && count > 0; i++){
+			seen += latency.get(i);
+			if(seen >= Math.ceil(count * share)){
+				return 1L << i;
+			}
+		}
+		return 0;
+	}
+
+	private static void respond(HttpExchange exchange, int status, String type, String body) throws IOException{
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", type + "; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		OutputStream out = exchange.getResponseBody();
+		try{
+			out.write(bytes);
+		} finally{
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/**
+ *	Name: AtomicFile.java
+ *	Purpose: Writes a file through a temporary file in the same directory, moved over the old file in one step,
+ *	so a run reading it at the same time sees either the old file or the new one, never half a file.
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+final class AtomicFile {
+
+	//what is written to the file
+	interface Content {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private AtomicFile(){
+	}
+
+	/**
+	 * Writes the content and replaces the file with it, the temporary file is deleted if anything fails
+	 * @param path - file to replace
+	 * @param content - writes the whole file
+	 * @throws IOException
+	 */
+	static void write(String path, Content content) throws IOException{
+		Path target = Paths.get(path).toAbsolutePath();
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		try{
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16));
+			try{
+				content.write(out);
+			} finally{
+				out.close();
+			}
+			try{
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch(AtomicMoveNotSupportedException e){
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally{
+			Files.deleteIfExists(temp);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/**
+ *	Name: CIDIndex.java
+ *	Purpose: Open addressing map from CID to its row in matrixCID, built once so lookups don't scan the matrix
+ */
+
+public class CIDIndex {
+
+	private final int[] keys;
+	private final int[] rows; //row + 1, 0 marks an empty slot
+	private final int mask;
+	private final int shift;
+
+	/**
+	 * @param matrixCID - matrix whose first column holds the CIDs, a repeated CID keeps its last row
+	 */
+	CIDIndex(int[][] matrixCID){
+		int capacity = Integer.highestOneBit(Math.max(matrixCID.length, 1) * 2 - 1) << 1; //load factor at most 1/2
+		keys = new int[capacity];
+		rows = new int[capacity];
+		mask = capacity - 1;
+		shift = 32 - Integer.numberOfTrailingZeros(capacity);
+		for(int i = 0; i < matrixCID.length; i++){
+			int slot = slot(matrixCID[i][0]);
+			keys[slot] = matrixCID[i][0];
+			rows[slot] = i + 1;
+		}
+	}
+
+	//finds the slot holding CID, or the empty slot where it belongs
+	private int slot(int CID){
+		int slot = (CID * 0x9E3779B9) >>> shift; //multiplicative hash, top bits pick the slot
+		while(rows[slot] != 0 && keys[slot] != CID){
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * @param CID - CID to look up
+	 * @return row of the CID in matrixCID, -1 if it isn't there
+	 */
+	int row(int CID){
+		return rows[slot(CID)] - 1;
+	}
+}
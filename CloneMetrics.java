@@ -0,0 +1,204 @@
+/**
+ *	Name: CloneMetrics.java
+ *	Purpose: Column storage for the rows of cloneM.tsv, one primitive column per metric (CID LEN POP NIF RAD RNR TKS LOOP COND McCabe)
+ *	Columns parsed from text are arrays, columns of a snapshot are views on its mapping, see InputSnapshot.
+ */
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.zip.Checksum;
+
+public class CloneMetrics {
+
+	static final String[] COLUMNS = {"CID", "LEN", "POP", "NIF", "RAD", "RNR", "TKS", "LOOP", "COND", "McCabe"};
+	private static final int CID = 0, POP = 2, RNR = 5;
+
+	private final IntBuffer[] ints = new IntBuffer[COLUMNS.length]; //integer metrics, null for RNR
+	private FloatBuffer rnr; //the only fractional metric
+	private int size = 0;
+
+	CloneMetrics(int capacity){
+		capacity = Math.max(capacity, 16);
+		for(int c = 0; c < COLUMNS.length; c++){
+			if(c != RNR){
+				ints[c] = IntBuffer.allocate(capacity);
+			}
+		}
+		rnr = FloatBuffer.allocate(capacity);
+	}
+
+	/**
+	 * Reads cloneM.tsv, the first line is the header. Columns missing at the end of a row are 0.
+	 * @param path - cloneM.tsv
+	 * @return one row per CID, in file order
+	 * @throws IOException
+	 */
+	static CloneMetrics read(String path) throws IOException{
+		return read(path, null);
+	}
+
+	/**
+	 * read(path) that also hashes the file
+	 * @param raw - gets every byte of the file, null for none
+	 */
+	static CloneMetrics read(String path, Checksum raw) throws IOException{
+		CloneMetrics metrics = new CloneMetrics(1024);
+		FieldCursor cursor = new FieldCursor(path, raw);
+		try{
+			cursor.nextLine(); //header: CID LEN POP NIF RAD RNR TKS LOOP COND McCabe
+			while(cursor.nextLine()){
+				if(!cursor.hasField()){
+					continue; //blank line
+				}
+				int row = metrics.addRow();
+				for(int c = 0; c < COLUMNS.length && cursor.hasField(); c++){
+					if(c == RNR){
+						metrics.rnr.put(row, cursor.nextFloat());
+					}
+					else{
+						metrics.ints[c].put(row, cursor.nextInt());
+					}
+				}
+			}
+		} finally{
+			cursor.close();
+		}
+		return metrics;
+	}
+
+	//appends a row of zeros, returns its index. Only tables parsed or filtered are added to, never those of a snapshot.
+	private int addRow(){
+		if(size == rnr.limit()){
+			int capacity = size + (size >> 1);
+			for(int c = 0; c < COLUMNS.length; c++){
+				if(c != RNR){
+					ints[c] = IntBuffer.wrap(Arrays.copyOf(ints[c].array(), capacity));
+				}
+			}
+			rnr = FloatBuffer.wrap(Arrays.copyOf(rnr.array(), capacity));
+		}
+		return size++;
+	}
+
+	//appends row i of another table
+	private void addRow(CloneMetrics from, int i){
+		int row = addRow();
+		for(int c = 0; c < COLUMNS.length; c++){
+			if(c != RNR){
+				ints[c].put(row, from.ints[c].get(i));
+			}
+		}
+		rnr.put(row, from.rnr.get(i));
+	}
+
+	int size(){
+		return size;
+	}
+
+	int cid(int i){
+		return ints[CID].get(i);
+	}
+
+	int pop(int i){
+		return ints[POP].get(i);
+	}
+
+	float rnr(int i){
+		return rnr.get(i);
+	}
+
+	/**
+	 * @param name - metric of the cloneM.tsv header, any case
+	 * @return column of the metric, -1 if there is none
+	 */
+	static int column(String name){
+		for(int c = 0; c < COLUMNS.length; c++){
+			if(COLUMNS[c].equalsIgnoreCase(name)){
+				return c;
+			}
+		}
+		return -1;
+	}
+
+	//true for a column held as floats, see floatColumn
+	static boolean isFloat(int column){
+		return column == RNR;
+	}
+
+	//values of an integer column, the buffer may be longer than size
+	IntBuffer intColumn(int column){
+		return ints[column];
+	}
+
+	//values of a float column, the buffer may be longer than size
+	FloatBuffer floatColumn(int column){
+		return rnr;
+	}
+
+	/**
+	 * @param filterValue - rows with RNR of this or less are dropped
+	 * @return rows with RNR greater than filterValue, in the same order
+	 */
+	CloneMetrics filterRNR(float filterValue){
+		CloneMetrics kept = new CloneMetrics(size);
+		for(int i = 0; i < size; i++){
+			if(rnr.get(i) > filterValue){
+				kept.addRow(this, i);
+			}
+		}
+		return kept;
+	}
+
+	/**
+	 * @param filter - compiled predicate over the columns
+	 * @return rows the filter keeps, in the same order
+	 */
+	CloneMetrics filter(MetricFilter filter){
+		boolean[] keep = filter.matches(this);
+		CloneMetrics kept = new CloneMetrics(size);
+		for(int i = 0; i < size; i++){
+			if(keep[i]){
+				kept.addRow(this, i);
+			}
+		}
+		return kept;
+	}
+
+	//appends the columns to a snapshot, see InputSnapshot
+	void write(DataOutputStream out) throws IOException{
+		out.writeInt(size);
+		for(int c = 0; c < COLUMNS.length; c++){
+			if(c == RNR){
+				InputSnapshot.write(out, rnr, size);
+			}
+			else{
+				InputSnapshot.write(out, ints[c], size);
+			}
+		}
+	}
+
+	//bytes write takes for a table of n rows
+	static long bytes(int n){
+		return 4 + 4L * COLUMNS.length * n;
+	}
+
+	//views on the columns written by write, advancing the buffer
+	static CloneMetrics read(ByteBuffer in){
+		int n = in.getInt();
+		CloneMetrics metrics = new CloneMetrics(0);
+		for(int c = 0; c < COLUMNS.length; c++){
+			if(c == RNR){
+				metrics.rnr = InputSnapshot.floats(in, n);
+			}
+			else{
+				metrics.ints[c] = InputSnapshot.ints(in, n);
+			}
+		}
+		metrics.size = n;
+		return metrics;
+	}
+}
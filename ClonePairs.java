@@ -0,0 +1,98 @@
+/**
+ *	Name: ClonePairs.java
+ *	Purpose: Growable column storage for the clone pairs section of prettyPrint.tsv (CID FID SL EL)
+ *	Columns parsed from text are arrays, columns of a snapshot are views on its mapping, see InputSnapshot.
+ */
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+public class ClonePairs {
+
+	private IntBuffer cid;
+	private IntBuffer fid;
+	private IntBuffer begin;
+	private IntBuffer end;
+	private int size = 0;
+
+	ClonePairs(){
+		this(1024);
+	}
+
+	ClonePairs(int capacity){
+		capacity = Math.max(capacity, 16);
+		cid = IntBuffer.allocate(capacity);
+		fid = IntBuffer.allocate(capacity);
+		begin = IntBuffer.allocate(capacity);
+		end = IntBuffer.allocate(capacity);
+	}
+
+	//pairs on the columns of a snapshot
+	private ClonePairs(IntBuffer cid, IntBuffer fid, IntBuffer begin, IntBuffer end){
+		this.cid = cid;
+		this.fid = fid;
+		this.begin = begin;
+		this.end = end;
+		size = cid.limit();
+	}
+
+	/**
+	 * Appends a clone pair, growing the columns when full
+	 * @param CID - clone ID
+	 * @param FID - file ID of the first fragment
+	 * @param bg - first token of the fragment
+	 * @param en - token after the last token of the fragment
+	 */
+	void add(int CID, int FID, int bg, int en){
+		if(size == cid.limit()){ //only pairs parsed from text are added to
+			int capacity = size + (size >> 1);
+			cid = IntBuffer.wrap(Arrays.copyOf(cid.array(), capacity));
+			fid = IntBuffer.wrap(Arrays.copyOf(fid.array(), capacity));
+			begin = IntBuffer.wrap(Arrays.copyOf(begin.array(), capacity));
+			end = IntBuffer.wrap(Arrays.copyOf(end.array(), capacity));
+		}
+		cid.put(size, CID);
+		fid.put(size, FID);
+		begin.put(size, bg);
+		end.put(size, en);
+		size++;
+	}
+
+	int size(){
+		return size;
+	}
+
+	int cid(int i){
+		return cid.get(i);
+	}
+
+	int fid(int i){
+		return fid.get(i);
+	}
+
+	int begin(int i){
+		return begin.get(i);
+	}
+
+	int end(int i){
+		return end.get(i);
+	}
+
+	//appends the columns to a snapshot, see InputSnapshot
+	void write(DataOutputStream out) throws IOException{
+		out.writeInt(size);
+		IntBuffer[] columns = {cid, fid, begin, end};
+		for(IntBuffer column : columns){
+			InputSnapshot.write(out, column, size);
+		}
+	}
+
+	//views on the columns written by write, advancing the buffer
+	static ClonePairs read(ByteBuffer in){
+		int n = in.getInt();
+		return new ClonePairs(InputSnapshot.ints(in, n), InputSnapshot.ints(in, n), InputSnapshot.ints(in, n), InputSnapshot.ints(in, n));
+	}
+}
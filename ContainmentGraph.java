@@ -0,0 +1,191 @@
+/**
+ *	Name: ContainmentGraph.java
+ *	Purpose: Which CIDs contain which, as a DAG over matrixCID rows with its transitive closure memoized in bitsets.
+ *	CID A contains CID B when every snippet of B lies inside some snippet of A.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+
+public class ContainmentGraph {
+
+	private static final BitSet NONE = new BitSet(); //shared by rows without edges, never modified
+	private final BitSet[] direct; //direct[i] = rows contained in row i, NONE if there are none
+	private final BitSet[] closure; //everything reachable from row i, filled on demand
+	private final int[] cids;
+
+	/**
+	 * @param snippets - snippets <CID,SL,EL,LENGTH,FILE>
+	 * @param matrixCID - rows of the graph
+	 * @param index - row of each CID in matrixCID
+	 */
+	ContainmentGraph(ArrayList<int[]> snippets, int[][] matrixCID, CIDIndex index){
+		int rows = matrixCID.length;
+		cids = new int[rows];
+		for(int i = 0; i < rows; i++){
+			cids[i] = matrixCID[i][0];
+		}
+		BitSet[] containedBy = containedBy(snippets, rows, index);
+
+		direct = new BitSet[rows];
+		closure = new BitSet[rows];
+		Arrays.fill(direct, NONE);
+		for(int j = 0; j < rows; j++){
+			if(containedBy[j] == null){
+				continue;
+			}
+			for(int i = containedBy[j].nextSetBit(0); i >= 0; i = containedBy[j].nextSetBit(i+1)){
+				boolean mutual = containedBy[i] != null && containedBy[i].get(j);
+				if(!mutual || i < j){ //CIDs covering the same lines only keep the edge from the lower row, so there are no cycles
+					if(direct[i] == NONE){
+						direct[i] = new BitSet();
+					}
+					direct[i].set(j);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sweeps the snippets ordered by file, SL, then longest first, keeping those still open.
+	 * Every snippet is checked against the open snippets that reach at least as far.
+	 * @return for each row, the rows having a snippet around every one of its snippets (null for rows without snippets)
+	 */
+	private static BitSet[] containedBy(ArrayList<int[]> snippets, int rows, CIDIndex index){
+		int[][] sorted = new int[snippets.size()][];
+		int n = 0;
+		for(int i = 0; i < snippets.size(); i++){
+			int[] snippet = snippets.get(i);
+			int row = index.row(snippet[0]);
+			if(row >= 0){
+				int[] entry = {snippet[1], snippet[2], row, snippet[4]};
+				sorted[n++] = entry;
+			}
+		}
+		Arrays.sort(sorted, 0, n, new Comparator<int[]>() {
+			public int compare(int[] a, int[] b) {
+				if(a[3] != b[3])
+					return Integer.compare(a[3], b[3]);
+				if(a[0] != b[0])
+					return Integer.compare(a[0], b[0]);
+				return Integer.compare(b[1], a[1]);
+			}
+		});
+
+		BitSet[] containedBy = new BitSet[rows];
+		BitSet around = new BitSet();
+		int[][] open = new int[16][];
+		int openCount = 0;
+		int i = 0;
+		while(i < n){
+			int groupEnd = i; //snippets with the same SL and EL are processed together so they see each other
+			while(groupEnd < n && sorted[groupEnd][3] == sorted[i][3] && sorted[groupEnd][0] == sorted[i][0] && sorted[groupEnd][1] == sorted[i][1]){
+				groupEnd++;
+			}
+			int kept = 0;
+			for(int k = 0; k < openCount; k++){ //drop snippets that ended before this line or are in an earlier file
+				if(open[k][1] >= sorted[i][0] && open[k][3] == sorted[i][3]){
+					open[kept++] = open[k];
+				}
+			}
+			openCount = kept;
+			for(int k = i; k < groupEnd; k++){
+				if(openCount == open.length){
+					open = Arrays.copyOf(open, openCount * 2);
+				}
+				open[openCount++] = sorted[k];
+			}
+			for(int k = i; k < groupEnd; k++){
+				int row = sorted[k][2];
+				around.clear();
+				for(int o = 0; o < openCount; o++){
+					if(open[o][1] >= sorted[k][1] && open[o][2] != row){
+						around.set(open[o][2]);
+					}
+				}
+				if(containedBy[row] == null){
+					containedBy[row] = around.isEmpty() ? NONE : (BitSet)around.clone();
+				}
+				else if(containedBy[row] != NONE){
+					containedBy[row].and(around);
+				}
+			}
+			i = groupEnd;
+		}
+		return containedBy;
+	}
+
+	//number of rows
+	int size(){
+		return cids.length;
+	}
+
+	/**
+	 * Every row reachable from a row, each closure is computed once and reused by the rows above it.
+	 * Rows are closed depth first from an explicit stack, so long containment chains don't overflow the call stack.
+	 * @param row - row of matrixCID
+	 * @return rows whose CIDs are contained, directly or not, shared so it must not be modified
+	 */
+	BitSet closure(int row){
+		if(closure[row] != null){
+			return closure[row];
+		}
+		int[] stack = new int[16];
+		int[] from = new int[16]; //next contained row to look at, for each row on the stack
+		stack[0] = row;
+		int depth = 1;
+		while(depth > 0){
+			int top = stack[depth-1];
+			int j = direct[top].nextSetBit(from[depth-1]);
+			while(j >= 0 && closure[j] != null){
+				j = direct[top].nextSetBit(j+1);
+			}
+			if(j >= 0){ //close the contained row first
+				from[depth-1] = j+1;
+				if(depth == stack.length){
+					stack = Arrays.copyOf(stack, depth * 2);
+					from = Arrays.copyOf(from, depth * 2);
+				}
+				stack[depth] = j;
+				from[depth] = 0;
+				depth++;
+			}
+			else{ //every contained row is closed
+				BitSet reach = (BitSet)direct[top].clone();
+				for(int k = direct[top].nextSetBit(0); k >= 0; k = direct[top].nextSetBit(k+1)){
+					reach.or(closure[k]);
+				}
+				closure[top] = reach;
+				depth--;
+			}
+		}
+		return closure[row];
+	}
+
+	/**
+	 * @param row - row of matrixCID
+	 * @return CIDs contained in the row separated by ".", ex: "5.7", "-" if there are none
+	 */
+	String chain(int row){
+		BitSet reach = closure(row);
+		if(reach.isEmpty()){
+			return "-";
+		}
+		int[] contained = new int[reach.cardinality()];
+		int n = 0;
+		for(int j = reach.nextSetBit(0); j >= 0; j = reach.nextSetBit(j+1)){
+			contained[n++] = cids[j];
+		}
+		Arrays.sort(contained);
+		StringBuilder sb = new StringBuilder();
+		for(int k = 0; k < n; k++){
+			if(k > 0){
+				sb.append('.');
+			}
+			sb.append(contained[k]);
+		}
+		return sb.toString();
+	}
+}
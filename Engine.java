@@ -5,12 +5,18 @@
  */
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.Checksum;
 
 import org.apache.commons.cli.*;
 
@@ -18,25 +24,421 @@ public class Engine {
 	
 	private String version = "CCM Version 1.7.3";
 	private String usage;
-	private boolean calc = false, time = false, prime = false, function = false, largest = true, verbose = false, output = false, displayVersion = false;
+	private boolean calc = false, time = false, prime = false, function = false, largest = true, verbose = false, output = false, displayVersion = false, cache = false, bounds = false, project = false;
 	private float filterValue = .5f;
-	private PrintStream out;
-	private PrintStream oldOut = System.out;
+	private MetricFilter filter = null; //predicate over cloneM.tsv given with -filter, replaces the RNR filter
+	private String report = null; //JSON stage report file, null when not asked for
+	private float[] sweep = null; //RNR filter values of a sweep, null for a single analysis
+	private String state = null; //project state file of an incremental analysis, null to analyse everything
+	private int serve = -1; //port of the analysis server, -1 to run a single analysis
+	private long serveCache = 512L << 20; //bytes of token line tables a server keeps
+	private TokenCache tokenCache = null; //token line tables shared by the analyses of a server
+	private PrintStream console = System.out; //where console output goes, a server gives each request its own
+	private long budget = 0; //bytes of the token file merge-scan, see PairLines, 0 to hold the line of every token
+	private int filesCreated = 0;
 	private Options options = new Options();
 	private CommandLineParser parser = new DefaultParser();
 	private HelpFormatter formatter = new HelpFormatter();
 	private CommandLine cmd;
-	private int numberOfCalls = 0; private int FIDCalls = 0; private int addBack = 0;
+	private int threads = 1; //threads of the per-CID stages
+	private ForkJoinPool pool = null; //per-CID stages run sequentially when null, given to ProjectAnalysis for its per-file work
+	private int numberOfCalls = 0, FIDCalls = 0, addBack = 0; //counters of the current analysis
 	
 	Engine(){ //constructor
 		initializeOptions();
 	}
 	
-	void handleArguments(String[] args) throws ParseException{	
+	//engine for a single analysis, see analyze
+	private Engine(AnalysisOptions analysisOptions){
+		largest = analysisOptions.largest();
+		filterValue = analysisOptions.filterValue();
+		filter = analysisOptions.filter();
+		cache = analysisOptions.cache();
+		bounds = analysisOptions.bounds();
+		threads = analysisOptions.threads();
+		state = analysisOptions.state();
+		tokenCache = analysisOptions.tokenCache();
+		budget = analysisOptions.budget();
+	}
+	
+	/**
+	 * Runs a complete analysis. Every call works on its own Engine and writes nothing,
+	 * so analyses can run concurrently in the same JVM.
+	 * @param input - input files
+	 * @param analysisOptions - options of this analysis
+	 * @return |S|, TCL, |S'|, PR and the row of every CID
+	 * @throws IOException
+	 */
+	public static AnalysisResult analyze(AnalysisInput input, AnalysisOptions analysisOptions) throws IOException{
+		analysisOptions.validate(input.isProject(), false);
+		Engine engine = new Engine(analysisOptions);
+		engine.startPool();
+		try{
+			if(input.isProject()){
+				return new ProjectAnalysis(engine, analysisOptions, engine.pool).run(input);
+			}
+			return engine.run(input);
+		} finally{
+			engine.stopPool();
+		}
+	}
+	
+	//pool of the token file ranges and per-CID stages (functionID, chunkValues), only when more than one thread was asked for
+	private void startPool(){
+		if(threads > 1){
+			pool = new ForkJoinPool(threads);
+		}
+	}
+	
+	private void stopPool(){
+		if(pool != null){
+			pool.shutdown();
+			pool = null;
+		}
+	}
+	
+	//the single file analysis pipeline, per-run state stays in this Engine
+	private AnalysisResult run(AnalysisInput input) throws IOException{
+		StageTimer stages = new StageTimer(input.sourceCode()); //time, allocation and counts of every stage
+		
+		InputSnapshot snapshot = parse(input, stages);
+		ClonePairs clonePairsList = snapshot.pairs;
+		TokenLineTable tokenLines = snapshot.tokenLines;
+		CloneMetrics cloneMetrics = snapshot.cloneMetrics;
+		int SLOC = snapshot.SLOC;
+		
+		stages.begin("rnrFilter");
+		//filter based on RNR, keep only CIDs of RNR greater than the filter value
+		int metricsBefore = cloneMetrics.size();
+		cloneMetrics = filterRNR(cloneMetrics);
+		int[][] matrixCID = matrixCID(cloneMetrics); //start creating the matrix to store data
+		CIDIndex cidIndex = new CIDIndex(matrixCID); //row of each CID, used by every CID lookup
+		int pairsBefore = clonePairsList.size();
+		clonePairsList = filterClonePairs(clonePairsList, matrixCID); //then update clonePairsList matrix to only include unfiltered CIDs
+		stages.count("cidsKept", matrixCID.length);
+		stages.count("cidsFiltered", metricsBefore - cloneMetrics.size());
+		stages.count("pairsKept", clonePairsList.size());
+		stages.count("pairsFiltered", pairsBefore - clonePairsList.size());
+		
+		PairLines pairLines = tokenLines == null ? scanPairs(input, clonePairsList, stages) : null; //with a budget, lines of the kept pairs only
+		
+		stages.begin("lengthUpdate");
+		//add length to CID matrix
+		if(pairLines != null){
+			updateLength(clonePairsList, pairLines, matrixCID, cidIndex);
+		}
+		else{
+			updateLength(clonePairsList, tokenLines, matrixCID, cidIndex); //adds the length to the CID matrix
+		}
+		stages.count("pairs", clonePairsList.size());
+		
+		stages.begin("snippets");
+		//Handling of source code directly
+		int sourceLines = countLines(input.sourceCode()); //source code is only streamed, never held in memory
+		ArrayList<int[]> snippets = pairLines != null ? snippetList(clonePairsList, pairLines)
+				: snippetList(clonePairsList, tokenLines); //each int[] will be of size 5, containing <CID,SL,EL,Lenth,FILE>
+		stages.count("sourceLines", sourceLines);
+		stages.count("snippets", snippets.size());
+		stages.count("snippetsDeduplicated", clonePairsList.size() - snippets.size());
+		
+		stages.begin("containment");
+		ContainmentGraph containment = new ContainmentGraph(snippets, matrixCID, cidIndex); //which CIDs contain which
+		String[] addBackChains = reportAddBack(containment);
+		stages.count("cids", containment.size());
+		
+		stages.begin("attributes");
+		LineAttributes attributes = createAttributes(sourceLines, snippets);
+		//get TCL
+		int TCL = totalCloneLines(attributes);
+		stages.count("linesAttributed", TCL);
+		stages.count("runs", attributes.runs());
+		
+		stages.begin("outline");
+		int[] lines = pairLines != null ? cloneBeginnings(pairLines) : cloneBeginnings(clonePairsList, tokenLines);
+		countCalls(attributes, lines);
+		stages.count("cloneBeginnings", lines.length);
+		stages.count("calls", numberOfCalls);
+		
+		LineAttributes[] files = {attributes};
+		return finish(stages, SLOC, TCL, numberOfCalls, matrixCID, snippets, files, addBackChains, attributes, lines);
+	}
+	
+	/**
+	 * Stages shared by single file and project analyses, from the FIDs to |S'|
+	 * @param calls - calls of the outline of every file
+	 * @param files - attributes of the lines of each file
+	 * @param attributes - attributes of the single file, kept for the s-prime output, null for a project
+	 * @param lines - clone beginnings of the single file, null for a project
+	 */
+	AnalysisResult finish(StageTimer stages, int SLOC, int TCL, int calls, int[][] matrixCID, ArrayList<int[]> snippets, LineAttributes[] files,
+			String[] addBackChains, LineAttributes attributes, int[] lines){
+		numberOfCalls = calls;
+		stages.begin("functionID");
+		int[] smallestLengths = bounds ? new int[matrixCID.length] : null; //lengths of the smallest assumption, same pass
+		FunctionIDs listOfFID = functionID(snippets, files, matrixCID, smallestLengths);
+		stages.count("rows", listOfFID.rows());
+		
+		stages.begin("chunking");
+		AnalysisResult smallest = null;
+		if(bounds){ //the smallest lengths only use the first positions of each CID's FIDs
+			int[][] smallMatrix = new int[matrixCID.length][];
+			for(int i = 0; i < matrixCID.length; i++){
+				smallMatrix[i] = matrixCID[i].clone();
+				smallMatrix[i][2] = smallestLengths[i];
+			}
+			int[][] smallChunk = chunkValues(listOfFID, smallestLengths);
+			updateFinal(smallChunk, smallMatrix);
+			int smallSize = approximateRefactoring(TCL, SLOC, smallChunk, smallMatrix);
+			float smallPR = 100 - ((float)smallSize/(float)SLOC)*100;
+			smallest = new AnalysisResult(SLOC, TCL, smallSize, smallPR, numberOfCalls, FIDCalls, addBack, smallMatrix, addBackChains, attributes, lines, listOfFID, Collections.<StageTimer.Stage>emptyList(), null);
+			FIDCalls = 0; addBack = 0;
+		}
+		int[][] valuesChunk = chunkValues(listOfFID);
+		
+		//update matrixCID with containing values, chunk size, and chunk pieces
+		updateFinal(valuesChunk, matrixCID);
+		
+		//final calculation
+		int refactoredSize = approximateRefactoring(TCL, SLOC, valuesChunk, matrixCID);
+		float PR = 100 - ((float)refactoredSize/(float)SLOC)*100;
+		stages.count("chunks", FIDCalls);
+		stages.count("addBack", addBack);
+		stages.end();
+		
+		return new AnalysisResult(SLOC, TCL, refactoredSize, PR, numberOfCalls, FIDCalls, addBack, matrixCID, addBackChains, attributes, lines, listOfFID, stages.stages(), smallest);
+	}
+	
+	/**
+	 * Parses the CCFinderX inputs, or maps them back from the sidecar when caching
+	 * @param input - input files
+	 * @param stages - timer of the run, the parsing stage is begun here
+	 * @return clone pairs, token lines, clone metrics and SLOC
+	 * @throws IOException
+	 */
+	private InputSnapshot parse(AnalysisInput input, StageTimer stages) throws IOException{
+		stages.begin("parsing");
+		boolean snapshots = cache && budget == 0; //a snapshot holds the token lines the budget avoids
+		InputSnapshot.Key key = snapshots ? new InputSnapshot.Key(input) : null; //taken before anything is read
+		InputSnapshot snapshot = snapshots ? InputSnapshot.load(input) : null; //parsed inputs of an earlier run
+		stages.count("snapshot", snapshot != null ? 1 : 0);
+		if(snapshot == null){
+			Checksum[] crc = key != null ? key.crc : new Checksum[4]; //the inputs are hashed as they are parsed for a new sidecar
+			
+			//Create matrix containing clone pairs information - CID FID SL EL
+			ClonePairs pairs = readClonePairs(input.prettyPrint(), "clone_pairs {", "}", crc[InputSnapshot.Key.PRETTY_PRINT]); //single pass over the section
+			
+			//initialize arrays containing token data and cloneMetrics, respectively
+			//line of every token, ranges in parallel with -threads, none with a budget (see scanPairs)
+			TokenLineTable tokens = budget > 0 ? null : readTokenLines(input.tokenFile(), pool, crc[InputSnapshot.Key.TOKEN_FILE]);
+			CloneMetrics metrics = CloneMetrics.read(input.cloneMetrics(), crc[InputSnapshot.Key.CLONE_METRICS]);
+			
+			//get SLOC from lineM.tsv file
+			int lineSLOC = readSLOC(input.lineMetrics(), crc[InputSnapshot.Key.LINE_METRICS]);
+			snapshot = new InputSnapshot(pairs, tokens, metrics, lineSLOC);
+			if(snapshots){
+				snapshot.save(input, key);
+			}
+		}
+		stages.count("clonePairs", snapshot.pairs.size());
+		if(snapshot.tokenLines != null){
+			stages.count("tokens", snapshot.tokenLines.size());
+		}
+		stages.count("cloneMetrics", snapshot.cloneMetrics.size());
+		return snapshot;
+	}
+	
+	/**
+	 * Finds the lines of the clone pairs in one scan of the token file within the budget, in place of the token line table
+	 * @param pairs - clone pairs the analysis keeps
+	 * @param stages - timer of the run, the tokenScan stage is begun here
+	 */
+	private PairLines scanPairs(AnalysisInput input, ClonePairs pairs, StageTimer stages) throws IOException{
+		stages.begin("tokenScan");
+		PairLines pairLines = PairLines.scan(input.tokenFile(), pairs, budget);
+		stages.count("tokens", pairLines.tokens());
+		stages.count("runs", pairLines.runs());
+		return pairLines;
+	}
+	
+	//token line table of a token file, from the server's cache when there is one
+	TokenLineTable readTokenLines(String path, ForkJoinPool pool) throws IOException{
+		return readTokenLines(path, pool, null);
+	}
+	
+	//readTokenLines that also hashes the file, always read from the file then
+	private TokenLineTable readTokenLines(String path, ForkJoinPool pool, Checksum raw) throws IOException{
+		if(tokenCache != null && raw == null){
+			return tokenCache.get(path, pool);
+		}
+		return TokenLineTable.read(path, pool, raw);
+	}
+	
+	/**
+	 * Computes |S'| for many RNR filter values in one run. Parsing, clone lengths, snippets, clone beginnings, the line
+	 * attributes and the FIDs are done once for every CID, with each CID renamed to its rank by decreasing RNR. The CIDs
+	 * active at a threshold are then the ranks under a bound: each threshold only filters the runs of the attributes,
+	 * counts the calls and recomputes the chunks of the active CIDs. Each threshold gives the same numbers as a run with -rnr.
+	 * @param input - input files
+	 * @param analysisOptions - options of the analysis, the filter value is ignored
+	 * @param thresholds - RNR filter values
+	 * @return |S|, TCL, |S'| and PR of every threshold, in the order given
+	 * @throws IOException
+	 */
+	public static RNRSweep sweepRNR(AnalysisInput input, AnalysisOptions analysisOptions, float[] thresholds) throws IOException{
+		analysisOptions.validate(input.isProject(), true);
+		Engine engine = new Engine(analysisOptions);
+		engine.startPool();
+		try{
+			return engine.runSweep(input, thresholds);
+		} finally{
+			engine.stopPool();
+		}
+	}
+	
+	private RNRSweep runSweep(AnalysisInput input, float[] thresholds) throws IOException{
+		StageTimer stages = new StageTimer(input.sourceCode());
+		InputSnapshot snapshot = parse(input, stages);
+		TokenLineTable tokenLines = snapshot.tokenLines;
+		CloneMetrics cloneMetrics = snapshot.cloneMetrics;
+		if(filter != null){ //the thresholds apply to the CIDs the filter keeps
+			cloneMetrics = cloneMetrics.filter(filter);
+		}
+		
+		stages.begin("lengthUpdate");
+		int[][] allCID = matrixCID(cloneMetrics); //every CID of the sweep, in file order
+		CIDIndex cidIndex = new CIDIndex(allCID);
+		ClonePairs clonePairsList = filterClonePairs(snapshot.pairs, allCID);
+		PairLines pairLines = null;
+		if(tokenLines == null){
+			pairLines = scanPairs(input, clonePairsList, stages);
+			stages.begin("lengthUpdate");
+			updateLength(clonePairsList, pairLines, allCID, cidIndex);
+		}
+		else{
+			updateLength(clonePairsList, tokenLines, allCID, cidIndex); //the length of a CID only depends on its own pairs
+		}
+		stages.count("pairs", clonePairsList.size());
+		
+		stages.begin("snippets");
+		int sourceLines = countLines(input.sourceCode());
+		ArrayList<int[]> allSnippets = pairLines != null ? snippetList(clonePairsList, pairLines) : snippetList(clonePairsList, tokenLines);
+		int[] allBeginnings = pairLines != null ? cloneBeginnings(pairLines) : cloneBeginnings(clonePairsList, tokenLines);
+		stages.count("snippets", allSnippets.size());
+		
+		stages.begin("sweep");
+		Integer[] byRNR = new Integer[cloneMetrics.size()]; //rows of allCID, highest RNR first
+		for(int i = 0; i < byRNR.length; i++){
+			byRNR[i] = i;
+		}
+		final CloneMetrics metrics = cloneMetrics;
+		Arrays.sort(byRNR, new Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return Float.compare(metrics.rnr(b), metrics.rnr(a));
+			}
+		});
+		Integer[] order = new Integer[thresholds.length]; //thresholds, highest first, so the active CIDs only grow
+		for(int i = 0; i < order.length; i++){
+			order[i] = i;
+		}
+		final float[] values = thresholds;
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return Float.compare(values[b], values[a]);
+			}
+		});
+		
+		int[] rank = new int[allCID.length]; //position of each row of allCID in byRNR
+		for(int i = 0; i < byRNR.length; i++){
+			rank[byRNR[i]] = i;
+		}
+		ArrayList<int[]> rankedSnippets = new ArrayList<int[]>(allSnippets.size()); //snippets with their CID renamed to its rank
+		for(int[] snippet : allSnippets){
+			int[] ranked = snippet.clone();
+			ranked[0] = rank[cidIndex.row(snippet[0])];
+			rankedSnippets.add(ranked);
+		}
+		long[] rankedBeginnings = new long[allBeginnings.length]; //rank << 32 | line, so the active beginnings come first
+		for(int i = 0; i < clonePairsList.size(); i++){
+			rankedBeginnings[i] = (long)rank[cidIndex.row(clonePairsList.cid(i))] << 32 | allBeginnings[i];
+		}
+		Arrays.sort(rankedBeginnings);
+		LineAttributes allAttributes = createAttributes(sourceLines, rankedSnippets);
+		int[][] matrixCID = new int[allCID.length][];
+		for(int row = 0; row < allCID.length; row++){
+			matrixCID[row] = allCID[row].clone(); //chunk columns are filled per threshold
+		}
+		FunctionIDs allFunctionIDs = functionID(allSnippets, allAttributes, matrixCID); //sets of ranks, snippets are in row order
+		stages.count("lines", allAttributes.coveredLines());
+		
+		int[] TCL = new int[thresholds.length];
+		int[] refactoredSize = new int[thresholds.length];
+		int[] calls = new int[thresholds.length];
+		int[] fidCalls = new int[thresholds.length];
+		int[] addBacks = new int[thresholds.length];
+		int[] cids = new int[thresholds.length];
+		int added = 0;
+		int activeBeginnings = 0;
+		for(int t : order){
+			while(added < byRNR.length && metrics.rnr(byRNR[added]) > thresholds[t]){
+				added++;
+			}
+			while(activeBeginnings < rankedBeginnings.length && (int)(rankedBeginnings[activeBeginnings] >>> 32) < added){
+				activeBeginnings++;
+			}
+			int[] lines = new int[activeBeginnings];
+			for(int i = 0; i < lines.length; i++){
+				lines[i] = (int)rankedBeginnings[i];
+			}
+			int[][] active = new int[added][];
+			int[][] valuesChunk = new int[added][];
+			int n = 0;
+			for(int row = 0; row < matrixCID.length; row++){ //active rows in file order, as a run with -rnr has them
+				if(rank[row] < added){
+					valuesChunk[n] = chunkSize(allFunctionIDs, row, allFunctionIDs.positions(row), added);
+					active[n++] = matrixCID[row];
+				}
+			}
+			
+			numberOfCalls = 0; FIDCalls = 0; addBack = 0;
+			LineAttributes attributes = allAttributes.below(added);
+			TCL[t] = totalCloneLines(attributes);
+			countCalls(attributes, lines);
+			updateFinal(valuesChunk, active);
+			refactoredSize[t] = approximateRefactoring(TCL[t], snapshot.SLOC, valuesChunk, active);
+			calls[t] = numberOfCalls;
+			fidCalls[t] = FIDCalls;
+			addBacks[t] = addBack;
+			cids[t] = active.length;
+		}
+		stages.count("thresholds", thresholds.length);
+		stages.end();
+		
+		return new RNRSweep(snapshot.SLOC, thresholds, cids, TCL, refactoredSize, calls, fidCalls, addBacks, stages.stages());
+	}
+	
+	//options of the analysis, as given on the command line
+	AnalysisOptions analysisOptions(){
+		return optionsBuilder().build();
+	}
+	
+	//builder of the options given on the command line, for callers adding their own, ex: a server's token cache
+	AnalysisOptions.Builder optionsBuilder(){
+		return AnalysisOptions.builder().largest(largest).filterValue(filterValue).filter(filter).cache(cache).bounds(bounds).threads(threads).state(state).budget(budget);
+	}
+	
+	/**
+	 * Reads the command line
+	 * @param args - command line arguments
+	 * @return true if the analysis should run, false if help or usage was printed instead
+	 * @throws ParseException
+	 */
+	boolean handleArguments(String[] args) throws ParseException{	
 		cmd = parser.parse(options, args,false);
 		if(cmd.hasOption("h")){ //help
-			formatter.printHelp(usage,options,true);
-			System.exit(0);
+			PrintWriter help = new PrintWriter(console); //the console of a server request, not the server's
+			formatter.printHelp(help, formatter.getWidth(), usage, null, options, formatter.getLeftPadding(), formatter.getDescPadding(), null, true);
+			help.flush();
+			return false;
 		}
 		if(cmd.hasOption("o")){ //change output
 			output = true;
@@ -62,9 +464,59 @@ public class Engine {
 		if(cmd.hasOption("rnr")){
 			setRNRFilter();
 		}
+		if(cmd.hasOption("filter")){ //with -rnr both have to hold, a sweep sets the RNR values itself
+			try{
+				filter = MetricFilter.compile(cmd.getOptionValue("filter"));
+			} catch(IllegalArgumentException e){
+				throw new ParseException(e.getMessage());
+			}
+			if(cmd.hasOption("rnr") && !cmd.hasOption("sweep")){
+				filter = MetricFilter.both(MetricFilter.rnrAbove(filterValue), filter);
+			}
+		}
 		if(cmd.hasOption("v")){
 			verbose = true;
 		}
+		if(cmd.hasOption("threads")){
+			threads = (int)number("threads", 1, Integer.MAX_VALUE);
+		}
+		if(cmd.hasOption("project")){
+			project = true;
+		}
+		if(cmd.hasOption("state")){
+			state = cmd.getOptionValue("state");
+		}
+		if(cmd.hasOption("b")){
+			bounds = true;
+		}
+		if(cmd.hasOption("cache")){
+			cache = true;
+		}
+		if(cmd.hasOption("budget")){
+			budget = number("budget", 1, Long.MAX_VALUE >> 20) << 20;
+		}
+		if(cmd.hasOption("sweep")){
+			try{
+				sweep = sweepValues(cmd.getOptionValue("sweep"));
+			} catch(NumberFormatException e){
+				throw new ParseException("-sweep needs a list or a range of numbers: " + cmd.getOptionValue("sweep"));
+			}
+		}
+		try{ //options that can't be combined
+			analysisOptions().validate(project, sweep != null);
+		} catch(IllegalArgumentException e){
+			throw new ParseException(e.getMessage());
+		}
+		if(cmd.hasOption("report")){
+			report = cmd.getOptionValue("report");
+		}
+		if(cmd.hasOption("serveCache")){
+			serveCache = number("serveCache", 1, Long.MAX_VALUE >> 20) << 20;
+		}
+		if(cmd.hasOption("serve")){ //no input files, they come with each request
+			serve = (int)number("serve", 0, 65535);
+			return true;
+		}
 		if(cmd.hasOption("mo")){
 			function = true;
 			verbose = true;
@@ -74,10 +526,47 @@ public class Engine {
 			output = true;
 			displayVersion = true;
 		}
-		if(args.length < 5 && !cmd.hasOption("h")){ //help
+		if(cmd.getArgs().length < 5){ //help
 			printUsage();
-			System.exit(1);
+			return false;
 		}
+		return true;
+	}
+	
+	//input of the analysis, a project when -project was given
+	AnalysisInput analysisInput(){
+		String[] files = cmd.getArgs();
+		if(project){ //clone pairs, token file suffix, clone metrics, line metrics, source root
+			return AnalysisInput.project(files[0], files[1], files[2], files[3], files[4]);
+		}
+		return new AnalysisInput(files[0], files[1], files[2], files[3], files[4]); //clone pairs, token file, clone metrics, line metrics, source code: S
+	}
+	
+	boolean ifServe(){
+		return serve >= 0;
+	}
+	
+	int servePort(){
+		return serve;
+	}
+	
+	long serveCache(){
+		return serveCache;
+	}
+	
+	//true if the arguments write files (-o, -p, -f, -report, the -cache sidecar, the -state file), which a server doesn't
+	boolean writesFiles(){
+		return output || prime || function || report != null || cache || state != null;
+	}
+	
+	//sends the console output of this Engine to a stream other than System.out
+	void console(PrintStream console){
+		this.console = console;
+	}
+	
+	//true if help was asked for
+	boolean ifHelp(){
+		return cmd != null && cmd.hasOption("h");
 	}
 	
 	void initializeOptions(){
@@ -90,6 +579,8 @@ public class Engine {
 		options.addOption("p",false,"output s-prime file");
 		options.addOption("f",false,"output FID list");
 		options.addOption("sm",false,"results will assume smallest length from clone pairs");
+		options.addOption("project",false,"analyse every file of prettyPrint.tsv: args are [prettyPrint.tsv] [token file suffix] [cloneM.tsv] [lineM.tsv] [source root]");
+		options.addOption("b",false,"results for both the largest and smallest length from clone pairs, as bounds of |S'| and PR");
 		Option changeRNRFilter = Option.builder("rnr")
 									.optionalArg(true)
 									.argName("Filter Value")
@@ -99,33 +590,195 @@ public class Engine {
 		options.addOption(changeRNRFilter);
 		options.addOption("v",false,"changes output to verbose");
 		options.addOption("mo",false,"produces maximum output (-f-v-p-c-t-ver-o)");
+		options.addOption("cache",false,"reuse parsed inputs from a binary sidecar next to prettyPrint.tsv");
+		Option stageReport = Option.builder("report")
+									.argName("File")
+									.hasArg(true)
+									.desc("write time, allocation and counts of every stage to a JSON file")
+									.build();
+		options.addOption(stageReport);
+		Option threadCount = Option.builder("threads")
+									.argName("Count")
+									.hasArg(true)
+									.desc("threads for the per-CID stages (functionID, chunk values), default 1")
+									.build();
+		options.addOption(threadCount);
+		Option rnrSweep = Option.builder("sweep")
+									.argName("Filter Values")
+									.hasArg(true)
+									.desc("computes |S'| for many RNR filter values, ex: 0.1,0.3,0.5 or 0:1:0.05 (start:end:step)")
+									.build();
+		options.addOption(rnrSweep);
+		Option metricFilter = Option.builder("filter")
+									.argName("Expression")
+									.hasArg(true)
+									.desc("keeps CIDs whose cloneM.tsv metrics pass the expression instead of filtering on RNR, ex: \"RNR>0.5 && TKS>=50 && McCabe<10\"")
+									.build();
+		options.addOption(metricFilter);
+		Option memoryBudget = Option.builder("budget")
+									.argName("MB")
+									.hasArg(true)
+									.desc("find the lines of the clone pairs in one scan of the token file within this memory, for token files larger than the heap")
+									.build();
+		options.addOption(memoryBudget);
+		Option projectState = Option.builder("state")
+									.argName("File")
+									.hasArg(true)
+									.desc("with -project, keep per-file and per-CID results in this file and only recompute what changed since the last run")
+									.build();
+		options.addOption(projectState);
+		Option server = Option.builder("serve")
+									.argName("Port")
+									.hasArg(true)
+									.desc("run as an analysis server on localhost, see AnalysisServer, 0 picks a free port")
+									.build();
+		options.addOption(server);
+		Option serverCache = Option.builder("serveCache")
+									.argName("MB")
+									.hasArg(true)
+									.desc("megabytes of token line tables the server keeps between requests, default 512")
+									.build();
+		options.addOption(serverCache);
 	}
 	
 	//called to manually set float value, if no argument, stays at default .5
-	void setRNRFilter(){
+	void setRNRFilter() throws ParseException{
 		String argument = cmd.getOptionValue("rnr",".5");
-		float valFloat = Float.parseFloat(argument);
+		float valFloat;
+		try{
+			valFloat = Float.parseFloat(argument);
+		} catch(NumberFormatException e){
+			throw new ParseException("-rnr needs a number: " + argument);
+		}
 		filterValue = valFloat;
 	}
+	
+	/**
+	 * Reads the whole number given to an option
+	 * @param option - name of the option
+	 * @param min - smallest value allowed
+	 * @param max - largest value allowed, sizes in MB are bounded so they still fit a long once in bytes
+	 * @return the value, from min to max
+	 * @throws ParseException if the value isn't a whole number in that range
+	 */
+	private long number(String option, long min, long max) throws ParseException{
+		String argument = cmd.getOptionValue(option);
+		long value;
+		try{
+			value = Long.parseLong(argument.trim());
+		} catch(NumberFormatException e){
+			throw new ParseException("-" + option + " needs a whole number: " + argument);
+		}
+		if(value < min || value > max){
+			throw new ParseException("-" + option + " must be from " + min + " to " + max + ": " + argument);
+		}
+		return value;
+	}
 
-	//direct input of filename
-	void setOutput(String filename) throws FileNotFoundException{
-		System.out.println("Created file: " + filename);	
-		try {
-			out = new PrintStream(new FileOutputStream(filename));
-			System.setOut(out);
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
+	/**
+	 * Reads the filter values of -sweep, a list or an inclusive range. Values are computed in decimal
+	 * so 0:1:0.1 gives the same 0.3 as -rnr 0.3.
+	 * @param argument - ex: "0.1,0.3,0.5" or "0:1:0.05"
+	 * @return filter values
+	 */
+	float[] sweepValues(String argument){
+		String[] range = argument.split(":");
+		if(range.length == 3){
+			BigDecimal start = new BigDecimal(range[0].trim());
+			BigDecimal end = new BigDecimal(range[1].trim());
+			BigDecimal step = new BigDecimal(range[2].trim());
+			if(step.signum() <= 0 || end.compareTo(start) < 0){
+				throw new NumberFormatException("Bad sweep range: " + argument);
+			}
+			int n = end.subtract(start).divide(step, 0, RoundingMode.FLOOR).intValue() + 1;
+			float[] values = new float[n];
+			for(int i = 0; i < n; i++){
+				values[i] = start.add(step.multiply(BigDecimal.valueOf(i))).floatValue();
+			}
+			return values;
+		}
+		String[] list = argument.split(",");
+		float[] values = new float[list.length];
+		for(int i = 0; i < list.length; i++){
+			values[i] = Float.parseFloat(list[i].trim());
 		}
+		return values;
 	}
 	
-	//resets Print stream to the console
-	void resetOutput(){
-		System.setOut(oldOut);
+	boolean ifSweep(){
+		return sweep != null;
+	}
+	
+	float[] sweepValues(){
+		return sweep.clone();
+	}
+	
+	//prints the table of an RNR sweep, to console or to file
+	void sweepOutput(RNRSweep result, String fileName) throws IOException{
+		OutputSink out;
+		if(output){
+			String[] temp = fileName.split("\\\\");
+			temp = temp[temp.length-1].split("\\.nw");
+			out = openOutput("Sweep-" + temp[0] + ".tsv");
+		}
+		else{
+			out = OutputSink.console(console);
+		}
+		try{
+			if(verbose){
+				out.println("RNR\tCIDS\t|S|\tTCL\t|S'|\tPR\tFC\tMD\tAB");
+			}
+			else{
+				out.println("RNR\t|S|\tTCL\t|S'|\tPR");
+			}
+			for(int i = 0; i < result.size(); i++){
+				out.print(result.threshold(i) + "\t");
+				if(verbose){
+					out.print(result.cids(i) + "\t");
+				}
+				out.print(result.sloc() + "\t" + result.tcl(i) + "\t" + result.refactoredSize(i) + "\t" + result.pr(i));
+				if(verbose){
+					out.print("\t" + result.calls(i) + "\t" + result.fidCalls(i) + "\t" + result.addBack(i));
+				}
+				out.println();
+			}
+		} finally{
+			out.close();
+		}
+	}
+	
+	//opens a buffered file output of this run
+	OutputSink openOutput(String filename) throws IOException{
+		console.println("Created file: " + filename);	
+		filesCreated++;
+		return OutputSink.file(filename);
+	}
+	
+	//number of files opened by openOutput
+	int filesCreated(){
+		return filesCreated;
+	}
+	
+	/**
+	 * Writes the JSON stage report asked for with -report
+	 * @param analysisStages - stages of the analysis or sweep
+	 * @param outputStages - stages of the CLI run after the analysis, ex: output
+	 * @param fileName - source code file of the analysis
+	 */
+	void outputReport(List<StageTimer.Stage> analysisStages, List<StageTimer.Stage> outputStages, String fileName) throws IOException{
+		ArrayList<StageTimer.Stage> all = new ArrayList<StageTimer.Stage>(analysisStages);
+		all.addAll(outputStages);
+		OutputSink out = openOutput(report);
+		try{
+			out.print(StageTimer.toJson(version, fileName, all));
+		} finally{
+			out.close();
+		}
 	}
 
 	//prints the output either to console or to file depending on argument
-	void mainOutput(int[][] matrixCID, int[][] valuesChunk, int SLOC, int TCL, int refactoredSize, float PR, String fileName){
+	void mainOutput(AnalysisResult result, String fileName) throws IOException{
+		OutputSink out;
 		if(output){	
 			String outputName = "Results-";
 			if(verbose)
@@ -133,56 +786,96 @@ public class Engine {
 			String[] temp = fileName.split("\\\\");
 			temp = temp[temp.length-1].split("\\.nw");
 			outputName += temp[0] + ".tsv";
-			try {
-				setOutput(outputName);
-			} catch (FileNotFoundException e) {
-				e.printStackTrace();
-			}
+			out = openOutput(outputName);
+		}
+		else{
+			out = OutputSink.console(console);
 		}
 		
+		try{
+			if(result.hasBounds()){
+				boundsOutput(out, result);
+			}
+			else if(verbose){
+				//print out full table
+				displayValues(out, result.matrixCID(), result.addBackChains());
+				out.println("--------------------------------------------------------------");
+				out.println("Initial Size:\t\t" + result.sloc() + "\t|S|");
+				out.println("Total Clone Length:\t" + result.tcl() + "\tTCL");
+				out.println("Refactored Size:\t" + result.refactoredSize() + "\t|S'|");
+				out.println("Percent Refactored:\t" + result.pr() + "\tPR");
+			}
+			else{
+				out.println("|S|\tTCL\t|S'|\tPR");
+				out.println(result.sloc() + "\t" + result.tcl() + "\t" + result.refactoredSize() + "\t" + result.pr());
+			}
+			
+			if(calc){
+				out.println("--------------------------------------------------------------");
+				showCalculation(out, result);
+				if(result.hasBounds()){
+					out.println("--------------------------------------------------------------");
+					out.println("Assuming smallest lengths:");
+					showCalculation(out, result.smallest());
+				}
+				out.println("--------------------------------------------------------------");
+			}
+		} finally{
+			out.close();
+		}
+	}
+	
+	/**
+	 * prints |S'| and PR as lower and upper bounds over the largest and smallest length assumptions
+	 * @param out - output of this run
+	 * @param result - result of the analysis, with bounds
+	 */
+	void boundsOutput(OutputSink out, AnalysisResult result) throws IOException{
 		if(verbose){
-			//print out full table
-			displayValues(matrixCID);
-			System.out.println("--------------------------------------------------------------");
-			System.out.println("Initial Size:\t\t" + SLOC + "\t|S|");
-			System.out.println("Total Clone Length:\t" + TCL + "\tTCL");
-			System.out.println("Refactored Size:\t" + refactoredSize + "\t|S'|");
-			System.out.println("Percent Refactored:\t" + PR + "\tPR");
+			int[][] largest = result.matrixCID();
+			int[][] smallest = result.smallest().matrixCID();
+			out.println("CID\tPOP\tLENGTH\tMINLENGTH\tCSIZE\tMINCSIZE\tCHUNKS\tMINCHUNKS\tCONTAINS");
+			for(int i = 0; i < largest.length; i++){
+				out.println(largest[i][0] + "\t" + largest[i][1] + "\t" + largest[i][2] + "\t" + smallest[i][2] + "\t" + largest[i][3] + "\t" + smallest[i][3]
+						+ "\t" + largest[i][4] + "\t" + smallest[i][4] + "\t" + result.addBackChains()[i]);
+			}
+			out.println("--------------------------------------------------------------");
+			out.println("Initial Size:\t\t" + result.sloc() + "\t|S|");
+			out.println("Total Clone Length:\t" + result.tcl() + "\tTCL");
+			out.println("Refactored Size:\t" + result.refactoredSizeLow() + " - " + result.refactoredSizeHigh() + "\t|S'|");
+			out.println("Percent Refactored:\t" + result.prLow() + " - " + result.prHigh() + "\tPR");
 		}
 		else{
-			System.out.println("|S|\tTCL\t|S'|\tPR");
-			System.out.println(SLOC + "\t" + TCL + "\t" + refactoredSize + "\t" + PR);
-		}
-		
-		if(calc){
-			System.out.println("--------------------------------------------------------------");
-			showCalculation(valuesChunk, SLOC, TCL, matrixCID);
-			System.out.println("--------------------------------------------------------------");
+			out.println("|S|\tTCL\t|S'| LOW\t|S'| HIGH\tPR LOW\tPR HIGH");
+			out.println(result.sloc() + "\t" + result.tcl() + "\t" + result.refactoredSizeLow() + "\t" + result.refactoredSizeHigh()
+					+ "\t" + result.prLow() + "\t" + result.prHigh());
 		}
-		
-		resetOutput();
 	}
 	
 	/**
 	 * prints readable string of the final calculation
-	 * @param values - array of integers to be added together
-	 * @param SLOC	- Source code size (without whitespace)
-	 * @param CLOC - Total clone volume (without whitespace)
-	 */
-	void showCalculation(int[][] values, int SLOC, int CLOC, int[][] matrixCID){
-		System.out.println("Calculation of |S'|:");
-		System.out.println("|S'| = |S| - TLC + FC + MD + AB");
-		System.out.println("|S'| = " + SLOC + " - " + CLOC + " + " + Integer.toString(numberOfCalls) + " + " + Integer.toString(FIDCalls*2) + " + " + Integer.toString(addBack));
-		System.out.println("FC = " + numberOfCalls);
-		System.out.println("MD = " + FIDCalls + " x 2");
-		System.out.print("AB = ");
+	 * @param out - output of this run
+	 * @param result - result of the analysis
+	 */
+	void showCalculation(OutputSink out, AnalysisResult result) throws IOException{
+		int[][] matrixCID = result.matrixCID();
+		out.println("Calculation of |S'|:");
+		out.println("|S'| = |S| - TLC + FC + MD + AB");
+		out.println("|S'| = " + result.sloc() + " - " + result.tcl() + " + " + Integer.toString(result.calls()) + " + " + Integer.toString(result.fidCalls()*2) + " + " + Integer.toString(result.addBack()));
+		out.println("FC = " + result.calls());
+		out.println("MD = " + result.fidCalls() + " x 2");
+		out.print("AB = ");
 		for(int i = 0; i < matrixCID.length; i++){
-			System.out.print(matrixCID[i][3]);
+			out.print(matrixCID[i][3]);
 			if(i != matrixCID.length-1){
-				System.out.print(" + ");
+				out.print(" + ");
 			}
 		}
-		System.out.println();
+		out.println();
+	}
+	
+	boolean ifReport(){
+		return report != null;
 	}
 	
 	boolean ifTime(){
@@ -202,22 +895,46 @@ public class Engine {
 	}
 	
 	void displayVersion(){
-		System.out.println(version);
-		System.out.println("--------------------------------------------------------------");
+		console.println(version);
+		console.println("--------------------------------------------------------------");
 	}
 	
-	//prints usage of program, error, and exits
+	//prints usage of program
 	void printUsage(){
-		System.out.println("Usage: RefactorCalculator [prettyPrint.tsv] [tokenfile.ccfxprep] [cloneM.tsv] [lineM.tsv]");
-		System.out.println("Type -h for help.");
-		System.exit(1); //error
+		console.println("Usage: RefactorCalculator [prettyPrint.tsv] [tokenfile.ccfxprep] [cloneM.tsv] [lineM.tsv]");
+		console.println("Type -h for help.");
+	}
+	
+	/**
+	 * |S'| and PR of rows whose LENGTH, CSIZE and CHUNKS are already known, as a project ended from its state has them
+	 * @param calls - calls of the outline of every file
+	 * @param stages - counts the chunks and add-backs and is ended, null for the smallest lengths of -b
+	 * @param smallest - result for the smallest lengths, null without -b
+	 * @return result without attributes, outline or FIDs
+	 */
+	AnalysisResult total(int SLOC, int TCL, int calls, int[][] matrixCID, String[] addBackChains, StageTimer stages, AnalysisResult smallest){
+		numberOfCalls = calls; FIDCalls = 0; addBack = 0;
+		int[][] chunk = new int[matrixCID.length][];
+		for(int i = 0; i < matrixCID.length; i++){ //chunk size and number of chunks, as chunkValues gives them
+			int[] values = {matrixCID[i][3], matrixCID[i][4]};
+			chunk[i] = values;
+		}
+		int refactoredSize = approximateRefactoring(TCL, SLOC, chunk, matrixCID);
+		float PR = 100 - ((float)refactoredSize/(float)SLOC)*100;
+		List<StageTimer.Stage> stageList = Collections.<StageTimer.Stage>emptyList();
+		if(stages != null){
+			stages.count("chunks", FIDCalls);
+			stages.count("addBack", addBack);
+			stages.end();
+			stageList = stages.stages();
+		}
+		return new AnalysisResult(SLOC, TCL, refactoredSize, PR, numberOfCalls, FIDCalls, addBack, matrixCID, addBackChains, null, null, null, stageList, smallest);
 	}
 	
 	//final calculation, returns integer value of result
 	public int approximateRefactoring(int cloc, int sloc, int[][] values, int[][] matrixCID){
 		int refactoredSize = sloc - cloc; //assume no clones
 	
-		//refactoredSize += addInts(values);
 		for(int i = 0; i < values.length; i++){
 			refactoredSize += matrixCID[i][3];
 			refactoredSize += (values[i][1]*2); //multiply by 2 for calling and termination statement
@@ -230,77 +947,168 @@ public class Engine {
 	}
 
 	//Outputs function ID File
-	public void outputFunctionIDFile(String sourceCodeName, ArrayList<ArrayList<ArrayList<String>>> functions, int[][] matrixCID){
-		resetOutput();
+	public void outputFunctionIDFile(String sourceCodeName, AnalysisResult result) throws IOException{
 		String outputName = "Functions-";
 		String[] temp = sourceCodeName.split("\\\\");
 		temp = temp[temp.length-1].split("\\.nw");
 		outputName += temp[0] + ".txt";
-		try {
-			setOutput(outputName);
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
+		OutputSink out = openOutput(outputName);
+		try{
+			printFIDList(out, result.functionIDs(), result.matrixCID());
+		} finally{
+			out.close();
 		}
-		printFIDList(functions, matrixCID);
-		resetOutput();
 	}
 	
 	//Outputs sPrime file
-	public void outputSPrime(String sourceCodeName, ArrayList<String> refactorSourceOutline){
-		resetOutput();
+	public void outputSPrime(String sourceCodeName, AnalysisResult result) throws IOException{
 		String sPrime = "sPrime-";
 		String[] temp = sourceCodeName.split("\\\\");
 		temp = temp[temp.length-1].split("\\.nw");
 		sPrime += temp[0];
-		try {
-			setOutput(sPrime);
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
+		OutputSink out = openOutput(sPrime);
+		try{
+			printSPrime(out, sourceCodeName, result);
+		} finally{
+			out.close();
 		}
-		for(int i = 0; i < refactorSourceOutline.size(); i++){
-			System.out.println(refactorSourceOutline.get(i));
+	}
+	
+	/**
+	 * Prints the s-prime outline, streaming the source code line by line: lines outside clones are copied,
+	 * the first line of each run of attributes and clone beginnings become calling statements, the rest of the clones is dropped
+	 * @param out - output of this run
+	 * @param sourceCodeName - source code file, read as a stream
+	 * @param result - result of the analysis, holding the attributes and clone beginnings
+	 * @throws IOException
+	 */
+	public void printSPrime(OutputSink out, String sourceCodeName, AnalysisResult result) throws IOException{
+		LineAttributes attributes = result.attributes();
+		int[] beginnings = sortedBeginnings(result.beginnings());
+		BufferedReader br = new BufferedReader(new InputStreamReader(InputFile.open(sourceCodeName)), OutputSink.BUFFER_SIZE);
+		try{
+			String strLine;
+			int run = 0, b = 0;
+			for(int i = 0; (strLine = br.readLine()) != null && i < attributes.size(); i++){
+				while(attributes.runEnd(run) <= i){
+					run++;
+				}
+				while(b < beginnings.length && beginnings[b] < i){
+					b++;
+				}
+				if(attributes.runCount(run) == 0){
+					out.println(strLine);
+				}
+				else if(attributes.runStart(run) == i && i > 0){
+					out.println("//Insert Calling Statement Line: " + (i + 1) + "   \t" + attributes.runToString(run));
+				}
+				else if(b < beginnings.length && beginnings[b] == i){
+					out.println("//Insert Calling Statement Line: " + i + "   \t" + attributes.runToString(run));
+				}
+			}
+		} finally{
+			br.close();
 		}
-		resetOutput();
 	}
 	
 	//Prints listOfFID
-	public void printFIDList(ArrayList<ArrayList<ArrayList<String>>> listOfFID, int[][] matrixCID){	
-		for(int i = 0; i < listOfFID.size(); i++){
-			System.out.println("CID\t: " + matrixCID[i][0]);
-			System.out.println("CHUNKS\t: " + matrixCID[i][4]);
-			System.out.println("SIZE\t: " + listOfFID.get(i).size());
-			for(int j = 0; j < listOfFID.get(i).size(); j++){
-				System.out.println(listOfFID.get(i).get(j));
+	public void printFIDList(OutputSink out, FunctionIDs listOfFID, int[][] matrixCID) throws IOException{	
+		for(int i = 0; i < listOfFID.rows(); i++){
+			out.println("CID\t: " + matrixCID[i][0]);
+			out.println("CHUNKS\t: " + matrixCID[i][4]);
+			out.println("SIZE\t: " + listOfFID.positions(i));
+			for(int j = 0; j < listOfFID.positions(i); j++){
+				out.println(listOfFID.toString(i, j));
 			}
-			System.out.println();
+			out.println();
 		}
 	}
 	
 	//returns array of length 2, 1st element contains size of the chunk, 2nd element is number of pieces the chunk is contained in
-	public int[][] chunkValues(ArrayList<ArrayList<ArrayList<String>>> listOfFID){
-		int[] values = new int[listOfFID.size()];
-		int[][] chunkMatrix = new int[values.length][2];
-		for(int i = 0; i < values.length; i++){
-			int[] chunkInfo = chunkSize(listOfFID.get(i), values.length);
-			chunkMatrix[i] = chunkInfo;			
-		}	
+	public int[][] chunkValues(FunctionIDs listOfFID){
+		return chunkValues(listOfFID, null);
+	}
+	
+	/**
+	 * @param listOfFID - FIDs of every CID
+	 * @param lengths - number of leading positions to use for each row, null for all of them
+	 * @return chunk size and number of chunks of each row
+	 */
+	int[][] chunkValues(FunctionIDs listOfFID, int[] lengths){
+		int[][] chunkMatrix = new int[listOfFID.rows()][];
+		if(pool == null){
+			chunkValues(listOfFID, lengths, chunkMatrix, 0, chunkMatrix.length);
+		}
+		else{
+			pool.invoke(new ChunkTask(listOfFID, lengths, chunkMatrix, 0, chunkMatrix.length));
+		}
 		return chunkMatrix;
 	}
 	
-	//Using lists from listOfFID determine chunk sizes
-	public int[] chunkSize(ArrayList<ArrayList<String>> listOfFIDList, int size){
+	//chunk values of rows from to to-1
+	void chunkValues(FunctionIDs listOfFID, int[] lengths, int[][] chunkMatrix, int from, int to){
+		for(int i = from; i < to; i++){
+			int positions = listOfFID.positions(i);
+			chunkMatrix[i] = chunkSize(listOfFID, i, lengths == null ? positions : Math.min(positions, lengths[i]));
+		}
+	}
+	
+	/**
+	 * Splits the rows of chunkValues in halves, every row writes only its own entry
+	 */
+	private class ChunkTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		private final FunctionIDs listOfFID;
+		private final int[] lengths;
+		private final int[][] chunkMatrix;
+		private final int from, to;
+		
+		ChunkTask(FunctionIDs listOfFID, int[] lengths, int[][] chunkMatrix, int from, int to){
+			this.listOfFID = listOfFID;
+			this.lengths = lengths;
+			this.chunkMatrix = chunkMatrix;
+			this.from = from;
+			this.to = to;
+		}
+		
+		protected void compute(){
+			if(to - from <= grain(chunkMatrix.length)){
+				chunkValues(listOfFID, lengths, chunkMatrix, from, to);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new ChunkTask(listOfFID, lengths, chunkMatrix, from, middle), new ChunkTask(listOfFID, lengths, chunkMatrix, middle, to));
+		}
+	}
+	
+	//Using the lists of a CID row in listOfFID determine chunk sizes
+	public int[] chunkSize(FunctionIDs listOfFID, int row){
+		return chunkSize(listOfFID, row, listOfFID.positions(row));
+	}
+	
+	//chunk size and number of chunks over the first positions of a row
+	int[] chunkSize(FunctionIDs listOfFID, int row, int positions){
+		return chunkSize(listOfFID, row, positions, Integer.MAX_VALUE);
+	}
+	
+	//chunkSize counting only the CIDs under bound at each position
+	int[] chunkSize(FunctionIDs listOfFID, int row, int positions, int bound){
 		int[] chunkInfo = new int[2];
-		int minLength = listOfFIDList.get(0).size();
+		if(positions == 0){
+			return chunkInfo;
+		}
+		int minLength = listOfFID.size(row, 0, bound);
 		boolean isChunk = false;
 		int numberOfChunks = 0;
 		int chunkSize = 0;	
-		for(int i = 0; i < listOfFIDList.size(); i++){ //determine minLength
-			if(listOfFIDList.get(i).size() < minLength){
-				minLength = listOfFIDList.get(i).size();
+		for(int i = 0; i < positions; i++){ //determine minLength
+			if(listOfFID.size(row, i, bound) < minLength){
+				minLength = listOfFID.size(row, i, bound);
 			}
 		}	
-		for(int i = 0; i < listOfFIDList.size(); i++){ //determine individual chunksizes and number of chunks
-			int currentSize = listOfFIDList.get(i).size();
+		for(int i = 0; i < positions; i++){ //determine individual chunksizes and number of chunks
+			int currentSize = listOfFID.size(row, i, bound);
 			if(currentSize == minLength){
 				if(!isChunk){
 					numberOfChunks++;
@@ -320,312 +1128,297 @@ public class Engine {
 		return chunkInfo;
 	}
 	
-	//Returns a list of doubly nested ArrayList, one for each CID - likely not efficient, consider refactoring in future
-	public ArrayList<ArrayList<ArrayList<String>>> functionID(ArrayList<int[]> snippets, ArrayList<ArrayList<String>> attributes, int[][] matrixCID){
-		ArrayList<ArrayList<ArrayList<String>>> listOfListOfStrings = new ArrayList<ArrayList<ArrayList<String>>>();
-		ArrayList<ArrayList<ArrayList<String>>> listOfFunctionIDList = new ArrayList<ArrayList<ArrayList<String>>>();
-		ArrayList<ArrayList<String>> functionIDList = new ArrayList<ArrayList<String>>();;
-		Set<String> hs = new HashSet<String>();	
-		
-		int startingSnippet = 0;
+	/**
+	 * Builds the function ID list of every CID: for each line position of the clone, the union of the attributes of its snippets
+	 * Sets are sorted int arrays built in scratch buffers that are reused across CIDs
+	 * @param snippets - snippets ordered by CID, POP of them per CID
+	 * @param attributes - CIDs of every line
+	 * @param matrixCID - length column is updated with the largest (or smallest) snippet length
+	 * @return FunctionIDs, one row per CID of matrixCID
+	 */
+	public FunctionIDs functionID(ArrayList<int[]> snippets, LineAttributes attributes, int[][] matrixCID){
+		LineAttributes[] files = {attributes};
+		return functionID(snippets, files, matrixCID, null);
+	}
+	
+	/**
+	 * functionID that also finds the smallest snippet length of every CID in the same pass. The FIDs are then built
+	 * for the largest length, the FIDs of the smallest length being the first positions of each CID.
+	 * @param attributes - attributes of the lines of each file, snippets give their file
+	 * @param smallest - filled with the smallest length of each row, null to use only the -sm choice
+	 */
+	FunctionIDs functionID(ArrayList<int[]> snippets, LineAttributes[] attributes, int[][] matrixCID, int[] smallest){
+		int[] firstSnippet = new int[matrixCID.length + 1]; //snippets of row i start at firstSnippet[i]
 		for(int i = 0; i < matrixCID.length; i++){
-			functionIDList = new ArrayList<ArrayList<String>>();
+			firstSnippet[i+1] = firstSnippet[i] + matrixCID[i][1];
+		}
+		if(pool == null){
+			return functionID(snippets, attributes, matrixCID, smallest, firstSnippet, 0, matrixCID.length);
+		}
+		return pool.invoke(new FunctionIDTask(snippets, attributes, matrixCID, smallest, firstSnippet, 0, matrixCID.length));
+	}
+	
+	/**
+	 * FIDs of rows from to to-1, rows only read their own snippets and write their own row of matrixCID
+	 * @param firstSnippet - index of the first snippet of each row
+	 */
+	FunctionIDs functionID(ArrayList<int[]> snippets, LineAttributes[] attributes, int[][] matrixCID, int[] smallest, int[] firstSnippet, int from, int to){
+		FunctionIDs listOfFunctionIDList = new FunctionIDs();
+		int[] starts = new int[16]; //first line (0-based) of each snippet of the current CID
+		LineAttributes[] fileOf = new LineAttributes[16]; //attributes of the file of each snippet
+		int[] union = new int[64];
+		
+		for(int i = from; i < to; i++){
+			listOfFunctionIDList.startCID();
 
+			int startingSnippet = firstSnippet[i];
 			int POP = matrixCID[i][1];
-			int position = startingSnippet;
-			int initialPos = position;
-			int length = 0;
 			int CIDLength = snippets.get(startingSnippet)[3];
-			
-			if(largest){ //assume max length of CID pairs
-				for(int j = 0; j < POP; j++){	
-					if(snippets.get(position)[3] > CIDLength){
-						CIDLength = snippets.get(position)[3];
-					}
-					position++;
-				}
-				matrixCID[i][2] = CIDLength; //update length
+			int minLength = CIDLength;
+			if(POP > starts.length){
+				starts = new int[Math.max(POP, starts.length * 2)];
+				fileOf = new LineAttributes[starts.length];
 			}
-			else if(!largest){ //smallest length of CID pairs
-				for(int j = 0; j < POP; j++){	
-					if(snippets.get(position)[3] < CIDLength){
-						CIDLength = snippets.get(position)[3];
-					}
-					position++;
+			for(int j = 0; j < POP; j++){ //assume max (or min with -sm) length of CID pairs
+				int[] snippet = snippets.get(startingSnippet + j);
+				if(largest || smallest != null ? snippet[3] > CIDLength : snippet[3] < CIDLength){
+					CIDLength = snippet[3];
 				}
-				matrixCID[i][2] = CIDLength; //update length
-			}
-			
-			position = startingSnippet;
-			
-			for(int j = 0; j < POP; j++){//create a list containing a list of strings for each snippet's attributes
-				int SL = snippets.get(position)[1];
-				//int EL = snippets.get(position)[2];
-				//length = EL - SL + 1;
-				length = CIDLength;
-				ArrayList<ArrayList<String>> temporaryList = new ArrayList<ArrayList<String>>(length);
-				for(int k = 0; k < length; k++){//place each attribute of the corresponding snippets with same CID in a temporaryList
-					temporaryList.add(k, attributes.get(SL-1));
-					SL++;
+				if(snippet[3] < minLength){
+					minLength = snippet[3];
 				}
-				listOfListOfStrings.add(temporaryList); 
-				position++;
+				starts[j] = snippet[1] - 1;
+				fileOf[j] = attributes[snippet[4]];
+			}
+			matrixCID[i][2] = CIDLength; //update length
+			if(smallest != null){
+				smallest[i] = minLength;
 			}
 			
-			//System.out.println("Should be " + length + " it is " + listOfListOfStrings.get(initialPos).size()); //BREAKPOINT
-			for(int a = 0; a < listOfListOfStrings.get(initialPos).size(); a++){ //create the union of corresponding snippets
-				hs.clear();
-				for(int j = initialPos; j < position; j++){ 
-					hs.addAll(listOfListOfStrings.get(j).get(a)); //there is some bug here with indexoutofbounds that needs to be addressed, doesn't always occur
+			for(int a = 0; a < CIDLength; a++){ //create the union of corresponding snippets
+				int n = 0;
+				for(int j = 0; j < POP; j++){
+					int line = starts[j] + a;
+					if(n + fileOf[j].count(line) > union.length){
+						union = Arrays.copyOf(union, Math.max(union.length * 2, n + fileOf[j].count(line)));
+					}
+					n = fileOf[j].copyTo(line, union, n);
 				}
-				ArrayList<String> newList = combineLists(hs);
-				functionIDList.add(newList);
-			}		
-			listOfFunctionIDList.add(functionIDList); //should be n number (from amount of CIDs) of ArrayList<ArrayList<Strings>> stored
-			startingSnippet += POP;
+				n = sortedSet(union, n);
+				listOfFunctionIDList.addPosition(union, n);
+			}
 		}
 
-		//System.out.println(listOfFunctionIDList.size());
 		return listOfFunctionIDList;
 	}
 	
-	//combines the lists stored in set hs
-	public ArrayList<String> combineLists(Set<String> hs){	
-		ArrayList<String> newList = new ArrayList<String>(hs);
-		String[] tempString = newList.toArray(new String[newList.size()]);
-		int[] tempInt = new int[tempString.length];
-		for(int i = 0; i < tempInt.length; i++){
-			tempInt[i] = Integer.parseInt(tempString[i]);
-		}
-		Arrays.sort(tempInt);
-		newList.clear();
-		for(int i = 0; i < tempInt.length; i++){
-			newList.add(String.valueOf(tempInt[i]));
-		}
-		return newList;
+	//rows a fork-join task handles without splitting further
+	private int grain(int rows){
+		return Math.max(1, rows / (pool.getParallelism() * 16));
 	}
 	
 	/**
-	 * Creates an outline for refactoring source code
-	 * @param attributes attributes for each line
-	 * @param sourceCode original source code
-	 * @return an outline of where to remove clone, also counts how many calls are made
+	 * Splits the rows of functionID in halves, the lists of both halves are joined in row order
 	 */
- 	public ArrayList<String> refactorSourceOutline(ArrayList<ArrayList<String>> attributes, ArrayList<String> sourceCode, int[] lines){
-		ArrayList<String> sourceOutline = sourceCode;
-		String[] currentAttribute = attributes.get(0).toArray(new String[attributes.get(0).size()]);
-
-		for(int i = 0; i < sourceOutline.size(); i++){
-			String[] temp = attributes.get(i).toArray(new String[attributes.get(i).size()]); //temporarily make into an array for comparison
-			
-			if(!Arrays.equals(currentAttribute, temp) && temp.length > 0){
-				int line = i + 1;
-				sourceOutline.set(i,"//Insert Calling Statement Line: " + line + "   \t" + String.valueOf(attributes.get(i)));
-				currentAttribute = temp;
-				numberOfCalls++;
-			}
-			else if(!Arrays.equals(currentAttribute,temp)){
-				currentAttribute = temp;
-			}
-			else if(Arrays.equals(currentAttribute, temp) && temp.length > 0){
-				sourceOutline.set(i,"//<remove>");
-			}			
-		}
+	private class FunctionIDTask extends RecursiveTask<FunctionIDs> {
 		
+		private static final long serialVersionUID = 1L;
+		private final ArrayList<int[]> snippets;
+		private final LineAttributes[] attributes;
+		private final int[][] matrixCID;
+		private final int[] smallest;
+		private final int[] firstSnippet;
+		private final int from, to;
 		
-		//before removing, go back and make sure all function calls exist, increase number of calls if it didn't exist previously
-		for(int i = 0; i < lines.length; i++){
-			
-			int line = lines[i] - 1;	
-			String temp = sourceOutline.get(line);
-			
-			if((temp.length() < 33)){
-				sourceOutline.set(line, "//Insert Calling Statement Line: " + line + "   \t" + String.valueOf(attributes.get(line)));
-				numberOfCalls++;
+		FunctionIDTask(ArrayList<int[]> snippets, LineAttributes[] attributes, int[][] matrixCID, int[] smallest, int[] firstSnippet, int from, int to){
+			this.snippets = snippets;
+			this.attributes = attributes;
+			this.matrixCID = matrixCID;
+			this.smallest = smallest;
+			this.firstSnippet = firstSnippet;
+			this.from = from;
+			this.to = to;
+		}
+		
+		protected FunctionIDs compute(){
+			if(to - from <= grain(matrixCID.length)){
+				return functionID(snippets, attributes, matrixCID, smallest, firstSnippet, from, to);
 			}
+			int middle = (from + to) >>> 1;
+			FunctionIDTask left = new FunctionIDTask(snippets, attributes, matrixCID, smallest, firstSnippet, from, middle);
+			left.fork();
+			FunctionIDs right = new FunctionIDTask(snippets, attributes, matrixCID, smallest, firstSnippet, middle, to).compute();
+			FunctionIDs joined = left.join();
+			joined.append(right);
+			return joined;
 		}
-		sourceOutline.removeAll(Collections.singleton("//<remove>")); //deletes all "//<remove>" comments
-		return sourceOutline;
 	}
- 	
- 	//stores the values of the starting line of each clone iteration
- 	public int[] cloneBeginnings(int[][] clonePairsList, String[] tokenFileArray){
- 		int[] lines = new int[clonePairsList.length];
- 		for(int i = 0; i < lines.length; i++){
- 			int position = clonePairsList[i][2] + 1;
- 			String[] temp = tokenFileArray[position].split("\\.");
- 			lines[i] = hexToDec(temp[0]);
- 		}
- 		return lines;
- 	}
 	
 	/**
-	 * Creates array list of of snippets (L)
-	 * @param clonePairsList - matrix containing clone SL and EL
-	 * @param tokenArray - array containing token information
-	 * @return ArrayList containing all L, 3 tuples <CID,SL,EL>, NO DUPLICATES, ordered by CID
+	 * Sorts the first values of an array and drops duplicates, in place
+	 * @param values - buffer to sort
+	 * @param length - how many values are in use
+	 * @return number of distinct values, now at the front of the buffer
 	 */
-	public ArrayList<int[]> snippetList(int[][] clonePairsList, String[] tokenArray){
-		ArrayList<int[]> snippets = new ArrayList<int[]>();
-		Set<String> hs = new HashSet<>();
-		ArrayList<String> snippetsTemp = new ArrayList<String>();
-		
-		for(int i = 0; i < clonePairsList.length; i++){ //gets 3 tuples, CID SL EL, places into set of Strings (to avoid duplicates)
-			int CID = clonePairsList[i][0];
-			String startToken = tokenArray[clonePairsList[i][2]]; //SL Token
-			String endToken = tokenArray[clonePairsList[i][3]-1]; //EL Token 
-			String[] tempStartArray = startToken.split("\\.");
-			String[] tempEndArray = endToken.split("\\.");
-			int SL = hexToDec(tempStartArray[0]); //Starting line
-			int EL = hexToDec(tempEndArray[0]); //Ending line
-			int length = EL - SL + 1;
-			hs.add(CID+" "+SL+" "+EL+" "+length);
-		}
-		
-		snippetsTemp.addAll(hs); //add all elements of hs to snippetsTemp so we can parse proper int values
-	
-		for(int j = 0; j < snippetsTemp.size(); j++){ //parse the int values, place into arrayList<int[]> 
-			String[] temp = snippetsTemp.get(j).split("\\ ");
-			int CID = Integer.parseInt(temp[0]), SL = Integer.parseInt(temp[1]), EL = Integer.parseInt(temp[2]), length = Integer.parseInt(temp[3]);
-			int[] tempL = {CID,SL,EL,length};
-			snippets.add(tempL);
+	int sortedSet(int[] values, int length){
+		Arrays.sort(values, 0, length);
+		int distinct = 0;
+		for(int i = 0; i < length; i++){
+			if(distinct == 0 || values[i] != values[distinct-1]){
+				values[distinct++] = values[i];
+			}
 		}
-		
-		Collections.sort(snippets, new Comparator<int[]>() {  //orders snippets list according to CID of arrays
-		    public int compare(int[] a, int[] b) {
-		    	return Integer.valueOf(a[0]).compareTo(Integer.valueOf(b[0]));
-		    }
-		});
-		
-		return snippets;
+		return distinct;
 	}
 	
 	/**
-	 * @param sourceCode The ArrayList<String> containing the source code
-	 * @param snippets ArrayList<ints[]> containing snippets (CID, SL, EL)
-	 * @return ArrayList<ArrayList<String>>
+	 * Counts how many calls the refactored outline needs, without reading the source code.
+	 * Neighbouring runs never hold the same CIDs, so the first line of each covered run gets a call (line 1 has nothing to differ from).
+	 * A clone beginning inside a run also gets a call when it isn't already one.
+	 * @param attributes attributes for each line
+	 * @param lines starting line of each clone iteration
+	 * @return number of calls, also kept for the calculation output
 	 */
-	public ArrayList<ArrayList<String>> createAttributes(ArrayList<String> sourceCode, ArrayList<int[]> snippets){
-		ArrayList<ArrayList<String>> attributes = new ArrayList<ArrayList<String>>(sourceCode.size());
-		for(int i = 0; i < sourceCode.size(); i++){ //initialize attributes
-			attributes.add(i, new ArrayList<String>());
+	public int countCalls(LineAttributes attributes, int[] lines){
+		numberOfCalls = callsOf(attributes, lines);
+		return numberOfCalls;
+	}
+	
+	//countCalls without keeping the count, safe to call for several files at once
+	int callsOf(LineAttributes attributes, int[] lines){
+		int calls = 0;
+		for(int r = 0; r < attributes.runs(); r++){
+			if(attributes.runCount(r) > 0 && attributes.runStart(r) > 0){
+				calls++;
+			}
 		}
-		for(int i = 0; i < snippets.size(); i++){ //update attributes
-			String att = String.valueOf(snippets.get(i)[0]); //CID (attribute)
-			int start = snippets.get(i)[1]-1; //SL
-			int end = snippets.get(i)[2]; //EL
-			while(start < end){
-				attributes.get(start).add(att);
-				start++;
+		int[] beginnings = sortedBeginnings(lines);
+		for(int i = 0; i < beginnings.length; i++){
+			if(beginningCall(attributes, beginnings[i])){
+				calls++;
 			}
 		}
-		return attributes;
+		return calls;
 	}
 	
-	/**
-	 * @param overlapMatrix
-	 * @param matrixCID
-	 * @return a string of elements concerning what overlaps are contained in which methods
-	 */
-	public String[] reportAddBack(int[][] overlapMatrix, int[][] matrixCID){
-		String[] value = new String[overlapMatrix.length];
-		
-		for(int i = 0; i < overlapMatrix.length; i++){
-			value[i] = "";
-			value[i] += Integer.toString(matrixCID[i][0]) + "-";
-			value[i] += findAddBack(overlapMatrix, i, matrixCID);
+	//true if a clone beginning (0-based line) is covered and isn't already the first line of its run
+	boolean beginningCall(LineAttributes attributes, int line){
+		int run = attributes.runOf(line);
+		return attributes.runCount(run) > 0 && (attributes.runStart(run) != line || line == 0);
+	}
+	
+	//distinct clone beginnings as 0-based lines, ascending
+	int[] sortedBeginnings(int[] lines){
+		int[] beginnings = new int[lines.length];
+		for(int i = 0; i < lines.length; i++){
+			beginnings[i] = lines[i] - 1;
 		}
-		
-		return value;
+		return Arrays.copyOf(beginnings, sortedSet(beginnings, beginnings.length));
 	}
 	
-	//recursively determine what CID to substract from other CID
-	public static String findAddBack(int[][] overlapMatrix, int position, int[][] matrixCID){
-		String value = "";
-		int pos = position; 
-		for(int i = 0; i < overlapMatrix.length; i++){
-			if(overlapMatrix[position][i] == 1){
-				pos = i;
-				value += matrixCID[pos][0] + ".";
-				value += findAddBack(overlapMatrix,pos,matrixCID);
-			}
+ 	//stores the values of the starting line of each clone iteration
+ 	public int[] cloneBeginnings(ClonePairs clonePairsList, TokenLineTable tokenLines){
+ 		int[] lines = new int[clonePairsList.size()];
+ 		for(int i = 0; i < lines.length; i++){
+ 			int position = clonePairsList.begin(i) + 1;
+ 			lines[i] = tokenLines.lineOf(position);
+ 		}
+ 		return lines;
+ 	}
+	
+	//cloneBeginnings from the lines a merge-scan found, see PairLines
+	int[] cloneBeginnings(PairLines pairLines){
+		int[] lines = new int[pairLines.size()];
+		for(int i = 0; i < lines.length; i++){
+			lines[i] = pairLines.second(i);
 		}
-		return value;
+		return lines;
 	}
 	
 	/**
-	 * Converts integers stored in valueArray into single values
-	 * @param valueArray array containing strings with value information
-	 * @param matrixCID	contains information about the CID, POP, LENGTH, OVERLAP
-	 * @return converted value (integer)
+	 * Creates array list of of snippets (L)
+	 * @param clonePairsList - matrix containing clone SL and EL
+	 * @param tokenLines - line of every token
+	 * @return ArrayList containing all L, tuples <CID,SL,EL,LENGTH,FILE>, NO DUPLICATES, ordered by CID then SL then EL, FILE is always 0
 	 */
-	public int convertValues(int[] valueArray, int[][] matrixCID){
-		int value = cidToLength(valueArray[0], matrixCID);
-		for(int i = 1; i < valueArray.length; i++){
-			if(valueArray[i] != 0){
-				value -= cidToLength(valueArray[i], matrixCID); //removes the CID lengths the code clone contains
-			}
+	public ArrayList<int[]> snippetList(ClonePairs clonePairsList, TokenLineTable tokenLines){
+		int[][] tuples = new int[clonePairsList.size()][];
+		for(int i = 0; i < tuples.length; i++){ //gets 5 tuples, CID SL EL LENGTH FILE
+			int CID = clonePairsList.cid(i);
+			int SL = tokenLines.lineOf(clonePairsList.begin(i)); //Starting line, from SL Token
+			int EL = tokenLines.lineOf(clonePairsList.end(i)-1); //Ending line, from EL Token
+			int[] tempL = {CID,SL,EL,EL - SL + 1,0};
+			tuples[i] = tempL;
 		}
-		return value;
+		return distinctSnippets(tuples);
+	}
+	
+	//snippetList from the lines a merge-scan found, see PairLines
+	ArrayList<int[]> snippetList(ClonePairs clonePairsList, PairLines pairLines){
+		return snippetList(clonePairsList, pairLines, null);
 	}
 	
 	/**
-	 * Finds and returns corresponding length of clone according to CID
-	 * @param CID - CID value
-	 * @param matrixCID - matrix containing information about the CID such as POP, LENGTH, OVERLAP
-	 * @return	length of the CID
+	 * Snippets of clone pairs spread over several files
+	 * @param pairLines - lines of each clone pair
+	 * @param fileOfPair - file of each clone pair, null if they are all in file 0
+	 * @return tuples <CID,SL,EL,LENGTH,FILE>, NO DUPLICATES, ordered by CID then SL then EL then FILE
 	 */
-	public int cidToLength(int CID, int[][] matrixCID){
-		int length = 0;
-		int position = CID;
-		
-		for(int i = 0; i < matrixCID.length; i++){
-			if(matrixCID[i][0] == position){
-				length = matrixCID[i][2]; //grab the length
-			}
+	ArrayList<int[]> snippetList(ClonePairs clonePairsList, PairLines pairLines, int[] fileOfPair){
+		int[][] tuples = new int[clonePairsList.size()][];
+		for(int i = 0; i < tuples.length; i++){
+			int SL = pairLines.first(i);
+			int EL = pairLines.last(i);
+			int[] tempL = {clonePairsList.cid(i),SL,EL,EL - SL + 1,fileOfPair == null ? 0 : fileOfPair[i]};
+			tuples[i] = tempL;
 		}
-		
-		return length;
+		return distinctSnippets(tuples);
 	}
+	
+	//sorts the tuples <CID,SL,EL,LENGTH,FILE> by CID, SL, EL, FILE and drops duplicates
+	private ArrayList<int[]> distinctSnippets(int[][] tuples){
+		
+		Arrays.sort(tuples, new Comparator<int[]>() {  //orders snippets by CID, SL, EL, FILE so duplicates are adjacent
+		    public int compare(int[] a, int[] b) {
+		    	int c = Integer.compare(a[0], b[0]);
+		    	if(c == 0)
+		    		c = Integer.compare(a[1], b[1]);
+		    	if(c == 0)
+		    		c = Integer.compare(a[2], b[2]);
+		    	if(c == 0)
+		    		c = Integer.compare(a[4], b[4]);
+		    	return c;
+		    }
+		});
 		
-	//deletes any duplicates after sorting, returns sorted array of what is left
-	public int[] sortDelete(String[] tempContains, int length){
-		ArrayList<String> arrayList = new ArrayList<String>(Arrays.asList(tempContains));//temporarily convert String to arrayList
-		ArrayList<String> remove = new ArrayList<String>(); //to contain what needs to be removed
-		for(int i = 0; i < arrayList.size()-1; i++){ //find what needs to be removed
-			if(arrayList.get(i).equalsIgnoreCase(arrayList.get(i+1))){
-				remove.add(arrayList.get(i));
+		ArrayList<int[]> snippets = new ArrayList<int[]>();
+		for(int i = 0; i < tuples.length; i++){ //skip duplicates
+			if(i == 0 || !Arrays.equals(tuples[i], tuples[i-1])){
+				snippets.add(tuples[i]);
 			}
 		}
-		for(int i = 0; i < remove.size(); i++){ //remove it
-			while(arrayList.remove(remove.get(i)));
-		}
-		int[] sortedArray = new int[arrayList.size()]; //make new array to return
-		for(int i = 0; i < sortedArray.length; i++){
-			sortedArray[i] = Integer.parseInt(arrayList.get(i));
-		}
-		return sortedArray;
+		return snippets;
 	}
 	
 	/**
-	 * @param intArray
-	 * @return sum of all int values in an int array
+	 * @param sourceLines number of lines in the source code
+	 * @param snippets ArrayList<ints[]> containing snippets (CID, SL, EL)
+	 * @return LineAttributes holding the runs of lines covered by the same CIDs
 	 */
-	public int addInts(int[] intArray){
-		int sum = 0;
-		for(int i = 0; i < intArray.length; i++){
-			sum += intArray[i];
-		}
-		return sum;
+	public LineAttributes createAttributes(int sourceLines, ArrayList<int[]> snippets){
+		return new LineAttributes(sourceLines, snippets);
 	}
-
+	
 	/**
-	 * @param hexString - string of hex values
-	 * @return integer of the converted hex value
+	 * @param containment - containment DAG between the CIDs of matrixCID
+	 * @return for each row of matrixCID, the CIDs contained in it, directly or through other CIDs, ex: "5.7"
 	 */
-	public int hexToDec(String hexString){
-		int integerVal = Integer.parseInt(hexString, 16);
-		return integerVal;
+	public String[] reportAddBack(ContainmentGraph containment){
+		String[] value = new String[containment.size()];
+		for(int i = 0; i < value.length; i++){
+			value[i] = containment.chain(i);
+		}
+		return value;
 	}
 	
 	/**
@@ -643,272 +1436,158 @@ public class Engine {
 	/**	
 	 * Updates matrixCID with length information, which was initially blank
 	 * @param dataMatrix - clone pairs information
-	 * @param tokenFileArray 
+	 * @param tokenLines - line of every token
 	 * @param updatedMatrix - matrixCID
+	 * @param index - row of each CID in matrixCID
 	 */
-	void updateLength(int[][] dataMatrix, String[] tokenFileArray, int[][] updatedMatrix){
-		for(int i = 0; i < dataMatrix.length; i++){
-			int lengthOfClone = getCloneLength(dataMatrix[i][2], dataMatrix[i][3], tokenFileArray); //getLength
-			addLength(updatedMatrix, dataMatrix[i][0], lengthOfClone); //add the length
+	void updateLength(ClonePairs dataMatrix, TokenLineTable tokenLines, int[][] updatedMatrix, CIDIndex index){
+		for(int i = 0; i < dataMatrix.size(); i++){
+			int lengthOfClone = getCloneLength(dataMatrix.begin(i), dataMatrix.end(i), tokenLines); //getLength
+			addLength(updatedMatrix, index, dataMatrix.cid(i), lengthOfClone); //add the length
+		}
+	}
+	
+	//updateLength from the lines a merge-scan found, see PairLines
+	void updateLength(ClonePairs dataMatrix, PairLines pairLines, int[][] updatedMatrix, CIDIndex index){
+		for(int i = 0; i < dataMatrix.size(); i++){
+			addLength(updatedMatrix, index, dataMatrix.cid(i), pairLines.length(i));
 		}
 	}
 	
 	/**
 	 * Adds length of clone to CID matrix
 	 * @param matrix - matrix to update (matrixCID)
+	 * @param index - row of each CID in matrix
 	 * @param CID - CID to be updated
 	 * @param lengthOfClone - clone length
 	 */
-	void addLength(int[][] matrix, int CID,  int lengthOfClone){
-		for(int i = 0; i < matrix.length; i++){
-			if(matrix[i][0] == CID){ //if the CID matches, update CID with clone length 
-				matrix[i][2] = lengthOfClone;
-			}
+	void addLength(int[][] matrix, CIDIndex index, int CID,  int lengthOfClone){
+		int row = index.row(CID);
+		if(row >= 0){ //if the CID is present, update CID with clone length 
+			matrix[row][2] = lengthOfClone;
 		}
 	}
 	
 	/**
-	 * Calculates length of the clone based on the token file
+	 * Calculates length of the clone based on the token file, constant time through the line change counts
 	 * @param bg - starting point
 	 * @param end - ending point
-	 * @param tokenArray - tokenFileArray
+	 * @param tokenLines - line of every token
 	 * @return length of the clone
 	 */
-	public int getCloneLength(int bg, int end, String[] tokenArray){
-		int length = 0; //start from zero
-		int lineNum = -1; //-1 to be sure first check has no match
-		int tempLineNum; //stores value we are checking
-		
-		for(int arrayPos = bg; arrayPos < end; arrayPos++){
-			String temp = tokenArray[arrayPos];
-			String[] tempArray = temp.split("\\.");
-			tempLineNum = hexToDec(tempArray[0]); //stores line number
-			if(lineNum != tempLineNum){	//if the linesNums aren't the same
-				lineNum = tempLineNum; 	//update lineNum to current line
-				length++;				//increase the length by 1
-			}
-		}	
-		return length;
+	public int getCloneLength(int bg, int end, TokenLineTable tokenLines){
+		return tokenLines.distinctLines(bg, end);
 	}
 	
 	/**
 	 * Places clone information into an integer matrix so info can easily be accessed
-	 * @param array - Contains clone information
+	 * @param cloneMetrics - rows of cloneM.tsv
 	 * @return integer matrix with clone information
 	 */
-	public int[][] matrixCID(String[] array){
-		int[][] matrix = new int[array.length-1][5];
-		for(int i = 1; i < array.length; i++){
-			String[] words = toWord(array[i]);	
-			matrix[i-1][0] = Integer.valueOf(words[0]); //CID
-			matrix[i-1][1] = Integer.valueOf(words[2]); //POP
-			matrix[i-1][2] = 0; //default length
-			matrix[i-1][3] = 0; //default chunk size
-			matrix[i-1][4] = 0; //default chunk pieces
+	public int[][] matrixCID(CloneMetrics cloneMetrics){
+		int[][] matrix = new int[cloneMetrics.size()][5];
+		for(int i = 0; i < cloneMetrics.size(); i++){
+			matrix[i][0] = cloneMetrics.cid(i); //CID
+			matrix[i][1] = cloneMetrics.pop(i); //POP
+			matrix[i][2] = 0; //default length
+			matrix[i][3] = 0; //default chunk size
+			matrix[i][4] = 0; //default chunk pieces
 		}
 		return matrix;
 	}
 
-	/**
-	 * Split array into a more accessible matrix
-	 * @param array - 
-	 * @param length - length of the array
-	 * @return Matrix containing CID FID SL EL
-	 */
-	public int[][] toCloneMatrix(String[] array, int length){
-		int[][] matrix = new int[length][4];
-		for(int i = 0; i < length; i++){		
-			for(int j = 0; j < 6; j++){	
-				if(j == 0){
-					matrix[i][j] = Integer.valueOf(toWord(array[i])[0]); //matrix[i][0] = array[i][0] CLONE ID
-				}
-				else if(j == 1){
-					String temp = toWord(array[i])[1];
-					String[] tempArray = temp.split("\\.");
-					matrix[i][j] = Integer.valueOf(tempArray[0]); //matrix[i][1] = array[i][1] FILE ID
-				}
-				else if(j == 2){
-					String temp = toWord(array[i])[1];
-					String[] tempArray = temp.split("\\.");
-					temp = tempArray[1]; //bg-end
-					tempArray = temp.split("\\-");
-					matrix[i][j] = Integer.valueOf(tempArray[0]); //matrix[i][2] = array[i][2] SL
-				}
-				else if(j == 3){
-					String temp = toWord(array[i])[1];
-					String[] tempArray = temp.split("\\.");
-					temp = tempArray[1]; //bg-end
-					tempArray = temp.split("\\-");
-					matrix[i][j] = Integer.valueOf(tempArray[1]); //matrix[i][3] = array[i][3] EL
-				}
-			}
-		}
-		return matrix;
-	}
-	
-	//Using the attributes arraylist, count number of lines containing clones in the source code
-	public int totalCloneLines(ArrayList<ArrayList<String>> attributes){
-		int totalCloneLines = 0;
-		for(int i = 0; i < attributes.size(); i++){
-			if(!attributes.get(i).isEmpty()){
-				totalCloneLines++;
-			}
-		}
-		return totalCloneLines;
+	//Using the attributes, count number of lines containing clones in the source code, summed from the coverage runs during the sweep
+	public int totalCloneLines(LineAttributes attributes){
+		return attributes.coveredLines();
 	}
 	
 	/**
 	 * Filters out CIDs based on a filter
-	 * @param cloneMetricArray - original unfiltered array
-	 * @param filter - floating point value used to filter RNR
-	 * @return array containing clone metrics minus clones filtered out due to low RNR
-	 */
-	public String[] filterRNR(String[] cloneMetricArray){
-		ArrayList<String> filteredList = new ArrayList<String>(); //place into string array list because we dont know the size
-		filteredList.add("CID     LEN     POP     NIF     RAD     RNR     TKS     LOOP    COND    McCabe");
-		for(int i = 1; i < cloneMetricArray.length; i++){
-			String[] temp = toWord(cloneMetricArray[i]);
-			float RNR = Float.parseFloat(temp[5]);			
-			if(RNR > filterValue){
-				filteredList.add(cloneMetricArray[i]);
-			}
-				
-		}
-		String[] filteredArray = filteredList.toArray(new String[filteredList.size()]); //convert Arraylist to array
-		return filteredArray;
-	}
-	
-	//removes duplicate clone pairs
-	public int[][] filterClonePairs(int[][] clonePairsList, int[][] matrixCID){
-		ArrayList<int[]> filteredPairs = new ArrayList<int[]>();
-		for(int i = 0; i < clonePairsList.length; i++){
-			for(int j = 0; j < matrixCID.length; j++){
-				if(clonePairsList[i][0] == matrixCID[j][0]){
-					filteredPairs.add(clonePairsList[i]);
-				}
-			}
+	 * @param cloneMetrics - original unfiltered rows
+	 * @return clone metrics minus clones filtered out due to low RNR, or failing the -filter expression
+	 */
+	public CloneMetrics filterRNR(CloneMetrics cloneMetrics){
+		if(filter != null){
+			return cloneMetrics.filter(filter);
 		}
-		int[][] filteredClonePairs = filteredPairs.toArray(new int[filteredPairs.size()][4]);
-		return filteredClonePairs;
+		return cloneMetrics.filterRNR(filterValue);
 	}
 	
-	/**
-	 * Splits an input string into separate words and places them into an array
-	 * @param line - a String, ex: "Hello world"
-	 * @return String array, ex: {"Hello","world"}
-	 */
-	public String[] toWord(String line){
-		String[] words = line.split("\\s+");
-		return words;
+	//keeps only clone pairs whose CID survived filtering, one pass against a bitmap of the CIDs in matrixCID
+	public ClonePairs filterClonePairs(ClonePairs clonePairsList, int[][] matrixCID){
+		BitSet surviving = new BitSet();
+		for(int j = 0; j < matrixCID.length; j++){
+			surviving.set(matrixCID[j][0]);
+		}
+		ClonePairs filteredPairs = new ClonePairs(clonePairsList.size());
+		for(int i = 0; i < clonePairsList.size(); i++){
+			if(surviving.get(clonePairsList.cid(i))){
+				filteredPairs.add(clonePairsList.cid(i), clonePairsList.fid(i), clonePairsList.begin(i), clonePairsList.end(i));
+			}
+		}
+		return filteredPairs;
 	}
 	
 	/**
-	 * @param path
-	 * @param begin
-	 * @param end
-	 * @return String array, each element different line from the specified section
-	 * @throws IOException
-	 */
-	public String[] sectionToArray(String path, String begin, String end) throws IOException {
-		int lines = countSectionLines(path, begin, end);
-		String[] array = sectionToArray(path,begin,end,lines);
-		return array;
-	}
-		
-	/**
+	 * Reads the clone pairs of a section in a single pass, without building an intermediate String array
 	 * @param path - file to open
 	 * @param begin - which token to begin reading input
 	 * @param end - which token to stop reading input
-	 * @param length - length of the section (in lines)
-	 * @return String array, each element different line from the specified section
+	 * @return ClonePairs containing CID FID SL EL of the first fragment of each pair
 	 * @throws IOException
 	 */
-	private String[] sectionToArray(String path, String begin, String end, int length) throws IOException {
-		String[] array = new String[length];
-		FileInputStream fstream = new FileInputStream(path);
-		BufferedReader br = new BufferedReader(new InputStreamReader(fstream));
-		String strLine;
-		int i = 0;
-		//read through all lines of the file, get only information about clone pairs
-		//add each line to array
-		while((strLine = br.readLine()) != null){	
-			if(strLine.equals(begin)){	
-				while((strLine = br.readLine()) != null){
-					if(strLine.equals(end)){
-						break;
-					}
-					array[i] = strLine;
-					i++;
-				}
-			}			
-		}
-		fstream.close();
-		return array;
+	public ClonePairs readClonePairs(String path, String begin, String end) throws IOException {
+		return readClonePairs(path, begin, end, null);
 	}
 	
-	/**
-	 * @param path - file to open
-	 * @param begin - which token to begin reading input
-	 * @param end - which token to stop reading input
-	 * @return number of lines in the section
-	 * @throws IOException
-	 */
-	public int countSectionLines(String path, String begin, String end) throws IOException {	
-		int lines = 0;	
-		FileInputStream fstream = new FileInputStream(path);
-		BufferedReader br = new BufferedReader(new InputStreamReader(fstream));
-		String strLine;
-		//read through all lines of the file, get only information about clone pairs
-		while((strLine = br.readLine()) != null){	
-			if(strLine.equals(begin)){	
-				while((strLine = br.readLine()) != null){
-					if(strLine.equals(end)){
-						break;
+	//readClonePairs that also hashes the whole file, raw is null for none
+	private ClonePairs readClonePairs(String path, String begin, String end, Checksum raw) throws IOException {
+		ClonePairs pairs = new ClonePairs();
+		FieldCursor cursor = new FieldCursor(path, raw);
+		try{
+			//read through all lines of the file, get only information about clone pairs
+			while(cursor.nextLine()){
+				if(cursor.lineEquals(begin)){
+					while(cursor.nextLine() && !cursor.lineEquals(end)){
+						if(!cursor.hasField()){
+							continue; //blank line
+						}
+						int CID = cursor.nextInt();
+						int FID = cursor.nextInt();
+						int SL = cursor.nextInt();
+						int EL = cursor.nextInt(); //the second fragment isn't needed
+						pairs.add(CID, FID, SL, EL);
 					}
-					lines++;
 				}
-			}			
+			}
+		} finally{
+			cursor.close();
 		}
-		fstream.close();
-		return lines;
+		return pairs;
 	}
 	
 	/**
-	 * @param path - file to open
-	 * @return An array, each element containing a string from the corresponding line in the file that was opened
+	 * @param path - lineM.tsv of a single file, header then FID LOC SLOC ...
+	 * @return SLOC of the file
 	 * @throws IOException
 	 */
-	public String[] fileToArray(String path) throws IOException{
-		int lines = countLines(path);
-		String file[] = new String[lines];
-		FileInputStream fstream = new FileInputStream(path);
-		BufferedReader br = new BufferedReader(new InputStreamReader(fstream));
-		String strLine;
-		int i = 0;
-		while((strLine = br.readLine()) != null){
-			file[i] = strLine;
-			i++;
-		}
-		fstream.close();
-		return file;
+	int readSLOC(String path) throws IOException{
+		return readSLOC(path, null);
 	}
-
-	/**
-	 * @param path - file to open
-	 * @return Array list, each element containing a line from the input file
-	 * @throws IOException
-	 */
-	public ArrayList<String> fileToArrayList(String path) throws IOException{
-		int lines = countLines(path);
-		ArrayList<String> file = new ArrayList<String>(lines);
-		FileInputStream fstream = new FileInputStream(path);
-		BufferedReader br = new BufferedReader(new InputStreamReader(fstream));
-		String strLine;
-		while((strLine = br.readLine()) != null){
-			file.add(strLine);
+	
+	//readSLOC that also hashes the whole file, raw is null for none
+	private int readSLOC(String path, Checksum raw) throws IOException{
+		FieldCursor cursor = new FieldCursor(path, raw);
+		try{
+			if(!cursor.nextLine() || !cursor.nextLine()){
+				throw new IOException("No line metrics in " + path);
+			}
+			cursor.nextInt(); //FID
+			cursor.nextInt(); //LOC
+			return cursor.nextInt();
+		} finally{
+			cursor.close();
 		}
-		fstream.close();
-		return file;
 	}
 	
 	/**
@@ -918,7 +1597,7 @@ public class Engine {
 	 */
 	public int countLines(String path) throws IOException{
 		int lines = 0;
-		FileInputStream fstream = new FileInputStream(path);
+		InputStream fstream = InputFile.open(path); //the source code may be compressed too
 		BufferedReader br = new BufferedReader(new InputStreamReader(fstream));
 		@SuppressWarnings("unused")
 		String strLine;
@@ -941,18 +1620,18 @@ public class Engine {
 	}
 	
 	/**
-	 * Display primary values to user in readable format: CID	POP	LENGTH	OVERLAP	CONTAINS
-	 * @param matrixCID - matrix that contains CID, POP, LENGTH, and OVERLAP
-	 * @param sortedValues - matrix containing CIDs that are contained within the first CID
-	 * @see	sortedValues[i][0] = containing CID, sortedValues[i][1] = contained CID
+	 * Display primary values to user in readable format: CID	POP	LENGTH	CSIZE	CHUNKS	CONTAINS
+	 * @param out - output of this run
+	 * @param matrixCID - matrix that contains CID, POP, LENGTH, CSIZE and CHUNKS
+	 * @param addBackChains - CIDs contained within each CID, from reportAddBack
 	 */
-	void displayValues(int[][] matrixCID){
-		System.out.println("CID\tPOP\tLENGTH\tCSIZE\tCHUNKS");
+	void displayValues(OutputSink out, int[][] matrixCID, String[] addBackChains) throws IOException{
+		out.println("CID\tPOP\tLENGTH\tCSIZE\tCHUNKS\tCONTAINS");
 		for(int i = 0; i < matrixCID.length; i++){
 			for(int j = 0; j < matrixCID[i].length; j++){
-				System.out.print(matrixCID[i][j]+"\t");
+				out.print(matrixCID[i][j]+"\t");
 			}
-			System.out.println();
+			out.println(addBackChains[i]);
 		}	
 	}
 	
@@ -0,0 +1,265 @@
+/**
+ *	Name: FieldCursor.java
+ *	Purpose: Reads the lines of a text input and the numbers on them straight from a byte buffer, without Strings or regexes.
+ *	Numbers are separated by whitespace, and by '.' or '-' right after a digit, ex: "12	3.100-200	4.5-6" is 12 3 100 200 4 5 6.
+ *	A '-' or '.' starting a field belongs to the number, ex: "-3" or ".5", and floats keep their '.'. Any other byte is an error.
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Checksum;
+
+final class FieldCursor implements Closeable {
+
+	private static final double[] POWERS = new double[23]; //powers of ten a double holds exactly
+
+	static{
+		POWERS[0] = 1;
+		for(int i = 1; i < POWERS.length; i++){
+			POWERS[i] = POWERS[i-1] * 10;
+		}
+	}
+
+	private final InputStream in;
+	private byte[] buffer = new byte[1 << 16];
+	private int filled = 0; //bytes of buffer read from the input
+	private int next = 0; //start of the line after the current one
+	private int lineStart = 0, lineEnd = 0; //current line, without its line break
+	private int pos = 0; //next byte of the current line to scan
+	private boolean eof = false;
+	private boolean drain = false; //read to the end of the input when closed, so its checksum covers all of it
+
+	/**
+	 * @param path - file to read, plain or gzip-compressed, see InputFile
+	 * @throws IOException
+	 */
+	FieldCursor(String path) throws IOException{
+		this(InputFile.open(path));
+	}
+
+	/**
+	 * @param path - file to read, plain or gzip-compressed, see InputFile
+	 * @param raw - gets every byte of the file, the rest of the file is read when the cursor is closed before its end
+	 * @throws IOException
+	 */
+	FieldCursor(String path, Checksum raw) throws IOException{
+		this(InputFile.open(path, raw));
+		drain = raw != null;
+	}
+
+	//reads from an open stream, closed with the cursor
+	FieldCursor(InputStream in){
+		this.in = in;
+	}
+
+	/**
+	 * Moves to the next line, the whole line is in the buffer afterwards
+	 * @return false at the end of the input
+	 * @throws IOException
+	 */
+	boolean nextLine() throws IOException{
+		int end = find(next);
+		while(end < 0 && !eof){
+			fill();
+			end = find(next);
+		}
+		if(end < 0){ //last line without a line break
+			if(next >= filled){
+				return false;
+			}
+			end = filled;
+		}
+		lineStart = next;
+		lineEnd = end > lineStart && buffer[end-1] == '\r' ? end - 1 : end;
+		next = end + 1;
+		pos = lineStart;
+		return true;
+	}
+
+	//offset of the first newline at or after from, -1 if the buffer has none
+	private int find(int from){
+		for(int i = from; i < filled; i++){
+			if(buffer[i] == '\n'){
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//drops the lines already read and reads more of the input, growing the buffer for a line longer than it
+	private void fill() throws IOException{
+		if(next > 0){
+			System.arraycopy(buffer, next, buffer, 0, filled - next);
+			filled -= next;
+			next = 0;
+		}
+		if(filled == buffer.length){
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+		}
+		int n = in.read(buffer, filled, buffer.length - filled);
+		if(n < 0){
+			eof = true;
+		}
+		else{
+			filled += n;
+		}
+	}
+
+	//true if the current line is exactly the text, ex: "clone_pairs {"
+	boolean lineEquals(String text){
+		if(lineEnd - lineStart != text.length()){
+			return false;
+		}
+		for(int i = 0; i < text.length(); i++){
+			if(buffer[lineStart + i] != text.charAt(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	//the current line, for error messages
+	String line(){
+		return new String(buffer, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Skips separators: whitespace, and '.' or '-' following a digit
+	 * @return true if a number starts before the end of the line
+	 * @throws IOException if something other than a separator or a number comes first
+	 */
+	boolean hasField() throws IOException{
+		while(pos < lineEnd && (isSpace(buffer[pos]) || (buffer[pos] == '.' || buffer[pos] == '-') && pos > lineStart && isDigit(buffer[pos-1]))){
+			pos++;
+		}
+		if(pos == lineEnd){
+			return false;
+		}
+		if(isDigit(buffer[pos]) || (buffer[pos] == '.' || buffer[pos] == '-') && pos + 1 < lineEnd && (isDigit(buffer[pos+1]) || buffer[pos+1] == '.')){
+			return true;
+		}
+		throw new IOException("Unexpected '" + (char)(buffer[pos] & 0xFF) + "' in line: " + line());
+	}
+
+	/**
+	 * @return next decimal number of the line, negative after a '-' starting the field
+	 * @throws IOException if the line has no more numbers or the next one isn't an integer
+	 */
+	int nextInt() throws IOException{
+		if(!hasField()){
+			throw new IOException("Missing number: " + line());
+		}
+		boolean negative = buffer[pos] == '-';
+		if(negative){
+			pos++;
+		}
+		if(pos == lineEnd || !isDigit(buffer[pos])){
+			throw new IOException("Not an integer in line: " + line());
+		}
+		int value = 0;
+		while(pos < lineEnd && isDigit(buffer[pos])){
+			value = value*10 + (buffer[pos++] - '0');
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * @return next decimal float of the line, ex: 0.572, .5 or -3, the same float as Float.parseFloat
+	 * @throws IOException if the line has no more numbers or the next one has no digits
+	 */
+	float nextFloat() throws IOException{
+		if(!hasField()){
+			throw new IOException("Missing number: " + line());
+		}
+		int start = pos;
+		boolean negative = buffer[pos] == '-';
+		if(negative){
+			pos++;
+		}
+		long mantissa = 0;
+		int digits = 0, scale = 0;
+		boolean exact = true;
+		while(pos < lineEnd && isDigit(buffer[pos])){
+			mantissa = mantissa*10 + (buffer[pos++] - '0');
+			digits++;
+		}
+		if(pos < lineEnd && buffer[pos] == '.'){
+			pos++;
+			while(pos < lineEnd && isDigit(buffer[pos])){
+				mantissa = mantissa*10 + (buffer[pos++] - '0');
+				digits++;
+				scale++;
+			}
+		}
+		if(digits == 0){
+			throw new IOException("Not a number in line: " + line());
+		}
+		if(pos < lineEnd && (buffer[pos] == 'e' || buffer[pos] == 'E')){ //rare, left to the JDK
+			exact = false;
+			pos++;
+			if(pos < lineEnd && (buffer[pos] == '-' || buffer[pos] == '+')){
+				pos++;
+			}
+			while(pos < lineEnd && isDigit(buffer[pos])){
+				pos++;
+			}
+		}
+		if(exact && digits <= 15 && scale < POWERS.length){
+			double value = mantissa / POWERS[scale]; //correctly rounded, both are exact doubles
+			if(!halfway(value)){ //otherwise rounding twice could differ from rounding once
+				return negative ? -(float)value : (float)value;
+			}
+		}
+		return Float.parseFloat(new String(buffer, start, pos - start, StandardCharsets.US_ASCII));
+	}
+
+	//true if a double lies exactly between two floats (a 1 and 28 zeros below the float bits), where (float) may round differently than parsing would
+	private static boolean halfway(double value){
+		return (Double.doubleToRawLongBits(value) & 0x1FFFFFFFL) == 0x10000000L;
+	}
+
+	/**
+	 * @return the rest of the line up to the next tab, ex: a path holding spaces
+	 */
+	String nextText(){
+		while(pos < lineEnd && buffer[pos] == '\t'){
+			pos++;
+		}
+		int start = pos;
+		while(pos < lineEnd && buffer[pos] != '\t'){
+			pos++;
+		}
+		return new String(buffer, start, pos - start, StandardCharsets.UTF_8);
+	}
+
+	//true if the current line has only whitespace
+	boolean blank(){
+		for(int i = lineStart; i < lineEnd; i++){
+			if(buffer[i] != ' ' && buffer[i] != '\t'){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDigit(byte c){
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isSpace(byte c){
+		return c == ' ' || c == '\t';
+	}
+
+	public void close() throws IOException{
+		try{
+			while(drain && !eof && in.read(buffer) >= 0){
+				//bytes after the last line read only go to the checksum
+			}
+		} finally{
+			in.close();
+		}
+	}
+}
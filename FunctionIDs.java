@@ -0,0 +1,112 @@
+/**
+ *	Name: FunctionIDs.java
+ *	Purpose: Function ID lists of every CID, one sorted set of CIDs per line position of the clone, stored as flat int arrays
+ */
+
+import java.util.Arrays;
+
+public class FunctionIDs {
+
+	private int[] cidStart = new int[16]; //first position of each CID row, cidStart[rows] closes the last row
+	private int[] positionStart = new int[64]; //first value of each position, positionStart[positions] closes the last one
+	private int[] values = new int[256];
+	private int rows = 0;
+	private int positions = 0;
+	private int size = 0;
+
+	//starts the list of the next CID row
+	void startCID(){
+		if(rows + 1 >= cidStart.length){
+			cidStart = Arrays.copyOf(cidStart, cidStart.length * 2);
+		}
+		cidStart[rows] = positions;
+		rows++;
+		cidStart[rows] = positions;
+	}
+
+	/**
+	 * Adds the set of CIDs of the next position of the current CID row
+	 * @param set - sorted CIDs without duplicates
+	 * @param length - how many of the set to take
+	 */
+	void addPosition(int[] set, int length){
+		if(positions + 1 >= positionStart.length){
+			positionStart = Arrays.copyOf(positionStart, positionStart.length * 2);
+		}
+		if(size + length > values.length){
+			values = Arrays.copyOf(values, Math.max(values.length * 2, size + length));
+		}
+		System.arraycopy(set, 0, values, size, length);
+		positionStart[positions] = size;
+		size += length;
+		positions++;
+		positionStart[positions] = size;
+		cidStart[rows] = positions;
+	}
+
+	/**
+	 * Appends the rows of another list after the rows of this one, used to join lists built in parallel
+	 * @param other - list of the rows that follow
+	 */
+	void append(FunctionIDs other){
+		if(rows + other.rows + 1 > cidStart.length){
+			cidStart = Arrays.copyOf(cidStart, Math.max(cidStart.length * 2, rows + other.rows + 1));
+		}
+		if(positions + other.positions + 1 > positionStart.length){
+			positionStart = Arrays.copyOf(positionStart, Math.max(positionStart.length * 2, positions + other.positions + 1));
+		}
+		if(size + other.size > values.length){
+			values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+		}
+		for(int r = 0; r <= other.rows; r++){
+			cidStart[rows + r] = positions + other.cidStart[r];
+		}
+		for(int p = 0; p <= other.positions; p++){
+			positionStart[positions + p] = size + other.positionStart[p];
+		}
+		System.arraycopy(other.values, 0, values, size, other.size);
+		rows += other.rows;
+		positions += other.positions;
+		size += other.size;
+	}
+
+	//number of CID rows
+	int rows(){
+		return rows;
+	}
+
+	//number of positions (lines) in the list of a CID row
+	int positions(int row){
+		return cidStart[row+1] - cidStart[row];
+	}
+
+	//number of CIDs in the set at a position of a CID row
+	int size(int row, int position){
+		int p = cidStart[row] + position;
+		return positionStart[p+1] - positionStart[p];
+	}
+
+	//number of CIDs under bound in the set at a position of a CID row
+	int size(int row, int position, int bound){
+		int p = cidStart[row] + position;
+		int from = positionStart[p], to = positionStart[p+1];
+		if(from == to || values[to-1] < bound){
+			return to - from;
+		}
+		int at = Arrays.binarySearch(values, from, to, bound); //sets hold no duplicates
+		return (at >= 0 ? at : -at - 1) - from;
+	}
+
+	//set at a position of a CID row in list form, ex: "[3, 9]"
+	String toString(int row, int position){
+		int p = cidStart[row] + position;
+		StringBuilder sb = new StringBuilder("[");
+		for(int i = positionStart[p]; i < positionStart[p+1]; i++){
+			if(i > positionStart[p]){
+				sb.append(", ");
+			}
+			sb.append(values[i]);
+		}
+		return sb.append(']').toString();
+	}
+}
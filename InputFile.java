@@ -0,0 +1,174 @@
+/**
+ *	Name: InputFile.java
+ *	Purpose: Opens an input file, plain or gzip-compressed (found by its magic bytes, whatever its name).
+ *	A compressed file is inflated on its own thread, ahead of the parser, through a small queue of recycled blocks,
+ *	so decompression overlaps parsing and nothing is written to disk.
+ */
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+import java.util.zip.GZIPInputStream;
+
+final class InputFile {
+
+	private static final int BLOCK_SIZE = 1 << 16;
+
+	private InputFile(){
+	}
+
+	/**
+	 * @param path - file to check
+	 * @return true if the file starts with the gzip magic bytes
+	 * @throws IOException
+	 */
+	static boolean compressed(String path) throws IOException{
+		FileInputStream in = new FileInputStream(path);
+		try{
+			return in.read() == 0x1f && in.read() == 0x8b;
+		} finally{
+			in.close();
+		}
+	}
+
+	/**
+	 * @param path - file to read
+	 * @return the bytes of the file, inflated on a background thread if it is compressed
+	 * @throws IOException
+	 */
+	static InputStream open(String path) throws IOException{
+		return open(path, null);
+	}
+
+	/**
+	 * @param path - file to read
+	 * @param raw - gets the bytes of the file as they are read, before inflating, null for none
+	 * @return the bytes of the file, inflated on a background thread if it is compressed
+	 * @throws IOException
+	 */
+	static InputStream open(String path, Checksum raw) throws IOException{
+		InputStream in = new FileInputStream(path);
+		if(raw != null){
+			in = new CheckedInputStream(in, raw);
+		}
+		if(!compressed(path)){
+			return in;
+		}
+		return new InflatingStream(new GZIPInputStream(in, BLOCK_SIZE), path);
+	}
+
+	/**
+	 * Reads the blocks a thread inflates, in order
+	 */
+	private static final class InflatingStream extends InputStream {
+
+		private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+		private final BlockingQueue<ByteBuffer> full = new ArrayBlockingQueue<ByteBuffer>(4);
+		private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<ByteBuffer>(4);
+		private final Thread thread;
+		private ByteBuffer block = END;
+		private boolean ended = false;
+		private volatile IOException failure;
+
+		InflatingStream(final InputStream source, String name){
+			for(int i = 0; i < 4; i++){
+				free.add(ByteBuffer.allocate(BLOCK_SIZE));
+			}
+			thread = new Thread(new Runnable(){
+				public void run(){
+					try{
+						try{
+							while(true){
+								ByteBuffer b = free.take();
+								int n = 0;
+								while(n < BLOCK_SIZE){ //fill whole blocks, gzip hands out a little at a time
+									int read = source.read(b.array(), n, BLOCK_SIZE - n);
+									if(read < 0){
+										break;
+									}
+									n += read;
+								}
+								if(n == 0){
+									break;
+								}
+								b.limit(n);
+								b.position(0);
+								full.put(b);
+								if(n < BLOCK_SIZE){
+									break;
+								}
+							}
+						} catch(IOException e){
+							failure = e;
+						} finally{
+							source.close();
+						}
+						full.put(END);
+					} catch(IOException e){
+						if(failure == null){
+							failure = e;
+						}
+						full.offer(END);
+					} catch(InterruptedException e){ //closed before the end, the reader is gone
+						Thread.currentThread().interrupt();
+					}
+				}
+			}, "inflate-" + name);
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		//true if there are bytes to read, waits for the next block when the current one is used up
+		private boolean nextBlock() throws IOException{
+			while(!block.hasRemaining() && !ended){
+				if(block != END){
+					block.clear();
+					free.offer(block);
+				}
+				try{
+					block = full.take();
+				} catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted while inflating", e);
+				}
+				if(block == END){
+					ended = true;
+					if(failure != null){
+						throw failure;
+					}
+				}
+			}
+			return block.hasRemaining();
+		}
+
+		public int read() throws IOException{
+			if(!nextBlock()){
+				return -1;
+			}
+			return block.get() & 0xff;
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException{
+			if(len == 0){
+				return 0;
+			}
+			if(!nextBlock()){
+				return -1;
+			}
+			int n = Math.min(len, block.remaining());
+			block.get(b, off, n);
+			return n;
+		}
+
+		public void close(){
+			thread.interrupt(); //stops the inflating thread if the reader stops early
+			ended = true;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/**
+ *	Name: InputSnapshot.java
+ *	Purpose: Binary sidecar of the parsed CCFinderX inputs (clone pairs, token lines, clone metrics, SLOC), written next to prettyPrint.tsv.
+ *	The sidecar is keyed by the size, modification time and CRC32C of the four input files and is memory-mapped back on later runs,
+ *	its columns are read through views on the mapping and never copied to the heap. The CRCs of a new sidecar come from the
+ *	bytes the parsers read, see Key.
+ */
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+final class InputSnapshot {
+
+	static final String SUFFIX = ".ccms";
+	private static final int MAGIC = 0x43434D53; //CCMS
+	private static final int VERSION = 3;
+	private static final int HASH_BLOCK = 1 << 26; //files are hashed 64MB at a time
+
+	/**
+	 * Size and time of the input files taken before they are parsed, and their CRC32C filled in by the parsers as they read them,
+	 * so writing a sidecar doesn't read the inputs again. A file changed while it was parsed gets a new time and is hashed on load.
+	 */
+	static final class Key {
+
+		static final int PRETTY_PRINT = 0, TOKEN_FILE = 1, CLONE_METRICS = 2, LINE_METRICS = 3; //index in keyed
+
+		private final long[] size = new long[4];
+		private final long[] modified = new long[4];
+		final Checksum[] crc = new Checksum[4]; //given to the parser of each file
+
+		Key(AnalysisInput input){
+			String[] files = keyed(input);
+			for(int i = 0; i < files.length; i++){
+				File f = new File(files[i]);
+				size[i] = f.length();
+				modified[i] = f.lastModified();
+				crc[i] = new CRC32C();
+			}
+		}
+	}
+
+	final ClonePairs pairs;
+	final TokenLineTable tokenLines;
+	final CloneMetrics cloneMetrics;
+	final int SLOC;
+
+	InputSnapshot(ClonePairs pairs, TokenLineTable tokenLines, CloneMetrics cloneMetrics, int SLOC){
+		this.pairs = pairs;
+		this.tokenLines = tokenLines;
+		this.cloneMetrics = cloneMetrics;
+		this.SLOC = SLOC;
+	}
+
+	//sidecar of an input, ex: prettyPrint.tsv.ccms
+	static String path(AnalysisInput input){
+		return input.prettyPrint() + SUFFIX;
+	}
+
+	//the files the snapshot is built from, in key order
+	private static String[] keyed(AnalysisInput input){
+		String[] files = {input.prettyPrint(), input.tokenFile(), input.cloneMetrics(), input.lineMetrics()};
+		return files;
+	}
+
+	/**
+	 * Maps the sidecar back if it was written for the current input files.
+	 * A file with the size and time of the key is taken as unchanged, one with only a new time is hashed again.
+	 * @param input - input files of the analysis
+	 * @return the snapshot, null if there is no sidecar or it is stale or unreadable
+	 */
+	static InputSnapshot load(AnalysisInput input) throws IOException{
+		File sidecar = new File(path(input));
+		if(!sidecar.isFile()){
+			return null;
+		}
+		FileChannel channel = FileChannel.open(sidecar.toPath(), StandardOpenOption.READ);
+		try{
+			MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if(in.remaining() < 8 || in.getInt() != MAGIC || in.getInt() != VERSION){
+				return null;
+			}
+			for(String file : keyed(input)){
+				File f = new File(file);
+				long size = in.getLong();
+				long modified = in.getLong();
+				long crc = in.getLong();
+				if(f.length() != size){
+					return null;
+				}
+				if(f.lastModified() != modified && crc(file) != crc){
+					return null;
+				}
+			}
+			int SLOC = in.getInt();
+			ClonePairs pairs = ClonePairs.read(in);
+			TokenLineTable tokenLines = TokenLineTable.read(in);
+			CloneMetrics cloneMetrics = CloneMetrics.read(in);
+			return new InputSnapshot(pairs, tokenLines, cloneMetrics, SLOC);
+		} catch(RuntimeException e){ //truncated or corrupt sidecar, parse the inputs again
+			return null;
+		} finally{
+			channel.close();
+		}
+	}
+
+	/**
+	 * Writes the sidecar, replacing any older one in one move so concurrent runs never read half a file.
+	 * Snapshots of 2GB or more can't be mapped back and are not written.
+	 * @param input - input files the snapshot was parsed from
+	 * @param key - key of the input files, hashed by the parsers
+	 */
+	void save(AnalysisInput input, final Key key) throws IOException{
+		long bytes = 8 + 24L * 4 + 4 + 4 + 16L * pairs.size() + 4 + 8L * tokenLines.size() + CloneMetrics.bytes(cloneMetrics.size());
+		if(bytes >= Integer.MAX_VALUE){
+			return;
+		}
+		AtomicFile.write(path(input), new AtomicFile.Content(){
+			public void write(DataOutputStream out) throws IOException{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				for(int i = 0; i < key.crc.length; i++){
+					out.writeLong(key.size[i]);
+					out.writeLong(key.modified[i]);
+					out.writeLong(key.crc[i].getValue());
+				}
+				out.writeInt(SLOC);
+				pairs.write(out);
+				tokenLines.write(out);
+				cloneMetrics.write(out);
+			}
+		});
+	}
+
+	//writes the first n values of a column, little endian so the views of x86 and ARM machines read them without swapping bytes
+	static void write(DataOutputStream out, IntBuffer column, int n) throws IOException{
+		for(int i = 0; i < n; i++){
+			out.writeInt(Integer.reverseBytes(column.get(i)));
+		}
+	}
+
+	static void write(DataOutputStream out, FloatBuffer column, int n) throws IOException{
+		for(int i = 0; i < n; i++){
+			out.writeInt(Integer.reverseBytes(Float.floatToRawIntBits(column.get(i))));
+		}
+	}
+
+	//view on the next n ints of a snapshot, advancing the buffer past them
+	static IntBuffer ints(ByteBuffer in, int n){
+		return section(in, n).asIntBuffer();
+	}
+
+	//view on the next n floats of a snapshot, advancing the buffer past them
+	static FloatBuffer floats(ByteBuffer in, int n){
+		return section(in, n).asFloatBuffer();
+	}
+
+	//the next n 4 byte values, a count the buffer can't hold means a corrupt sidecar
+	private static ByteBuffer section(ByteBuffer in, int n){
+		if(n < 0 || n > in.remaining() / 4){
+			throw new IllegalStateException("Bad section length " + n);
+		}
+		ByteBuffer section = in.slice(in.position(), 4 * n).order(ByteOrder.LITTLE_ENDIAN);
+		in.position(in.position() + 4 * n);
+		return section;
+	}
+
+	//CRC32C of a whole file, read through mapped blocks, for an input whose time changed since the sidecar was written
+	static long crc(String path) throws IOException{
+		CRC32C crc = new CRC32C();
+		FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ);
+		try{
+			long size = channel.size();
+			for(long position = 0; position < size; position += HASH_BLOCK){
+				ByteBuffer block = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(HASH_BLOCK, size - position));
+				crc.update(block);
+			}
+		} finally{
+			channel.close();
+		}
+		return crc.getValue();
+	}
+}
@@ -0,0 +1,233 @@
+/**
+ *	Name: LineAttributes.java
+ *	Purpose: CIDs covering each source line, kept as runs of lines holding the same CIDs.
+ *	Runs come from one sweep over the sorted snippet start and end events, so the cost follows the number of snippets, not the clone volume.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class LineAttributes {
+
+	private final int lines;
+	private int[] runStart = new int[16]; //first line (0-based) of each run, runStart[runs] = lines
+	private int[] runOffsets = new int[16]; //CIDs of run r are cids[runOffsets[r]] to cids[runOffsets[r+1]-1], ascending
+	private int[] cids = new int[64];
+	private long lastFingerprint = 0; //order independent hash of the CIDs of the last run
+	private int runs = 0;
+	private int coveredLines = 0;
+
+	/**
+	 * Sweeps the snippets once: sort start and end events, then apply them line by line,
+	 * starting a new run wherever the set of covering CIDs changes
+	 * @param lines - number of lines in the source code, snippets past the end are clipped
+	 * @param snippets - snippets <CID,SL,EL,LENGTH,FILE>, all of the same file
+	 */
+	LineAttributes(int lines, ArrayList<int[]> snippets){
+		this.lines = lines;
+		long[] starts = new long[snippets.size()]; //line << 32 | CID
+		long[] ends = new long[snippets.size()];
+		int events = 0;
+		for(int i = 0; i < snippets.size(); i++){
+			int[] snippet = snippets.get(i);
+			if(snippet[2] >= snippet[1]){
+				starts[events] = (long)(snippet[1]-1) << 32 | (snippet[0] & 0xFFFFFFFFL);
+				ends[events] = (long)snippet[2] << 32 | (snippet[0] & 0xFFFFFFFFL);
+				events++;
+			}
+		}
+		Arrays.sort(starts, 0, events);
+		Arrays.sort(ends, 0, events);
+
+		int[] active = new int[16]; //sorted multiset of the CIDs covering the current line
+		int activeCount = 0;
+		long fingerprint = 0;
+		addRun(0, active, 0, 0, 0);
+		int s = 0, e = 0;
+		while(s < events || e < events){
+			int line = (int)(Math.min(s < events ? starts[s] : Long.MAX_VALUE, e < events ? ends[e] : Long.MAX_VALUE) >>> 32);
+			if(line >= lines){
+				break;
+			}
+			while(e < events && (int)(ends[e] >>> 32) == line){ //snippets ending before this line
+				int CID = (int)ends[e++];
+				int at = Arrays.binarySearch(active, 0, activeCount, CID);
+				System.arraycopy(active, at + 1, active, at, activeCount - at - 1);
+				activeCount--;
+				fingerprint -= mix(CID);
+			}
+			while(s < events && (int)(starts[s] >>> 32) == line){ //snippets starting on this line
+				int CID = (int)starts[s++];
+				if(activeCount == active.length){
+					active = Arrays.copyOf(active, activeCount * 2);
+				}
+				int at = Arrays.binarySearch(active, 0, activeCount, CID);
+				if(at < 0){
+					at = -at - 1;
+				}
+				System.arraycopy(active, at, active, at + 1, activeCount - at);
+				active[at] = CID;
+				activeCount++;
+				fingerprint += mix(CID);
+			}
+			if(!lastRunHolds(fingerprint, active, 0, activeCount)){
+				addRun(line, active, 0, activeCount, fingerprint);
+			}
+		}
+		close();
+	}
+
+	/**
+	 * Runs of another LineAttributes keeping only its CIDs under a bound, the same runs a sweep over only the
+	 * snippets of those CIDs would give. Neighbouring runs left with the same CIDs are joined.
+	 * @param all - attributes of every snippet
+	 * @param bound - CIDs from bound up are dropped
+	 */
+	private LineAttributes(LineAttributes all, int bound){
+		this.lines = all.lines;
+		addRun(0, all.cids, 0, 0, 0);
+		for(int r = 0; r < all.runs; r++){
+			int from = all.runOffsets[r];
+			int count = 0;
+			long fingerprint = 0;
+			while(count < all.runCount(r) && all.cids[from + count] < bound){ //CIDs of a run are ascending
+				fingerprint += mix(all.cids[from + count]);
+				count++;
+			}
+			if(!lastRunHolds(fingerprint, all.cids, from, count)){
+				addRun(all.runStart[r], all.cids, from, count, fingerprint);
+			}
+		}
+		close();
+	}
+
+	/**
+	 * @param bound - CIDs from bound up are dropped
+	 * @return attributes of the lines as if only the snippets of CIDs under bound had been given, built from the runs alone
+	 */
+	LineAttributes below(int bound){
+		return new LineAttributes(this, bound);
+	}
+
+	//ends the last run at the last line and counts the covered lines
+	private void close(){
+		runStart[runs] = lines;
+		for(int r = 0; r < runs; r++){
+			if(runCount(r) > 0){
+				coveredLines += runStart[r+1] - runStart[r];
+			}
+		}
+	}
+
+	//appends a run of count CIDs of set starting at from, replacing the previous run if it would be empty
+	private void addRun(int line, int[] set, int from, int count, long fingerprint){
+		if(runs > 0 && runStart[runs-1] == line){
+			runs--;
+		}
+		if(runs + 2 > runStart.length){
+			runStart = Arrays.copyOf(runStart, runStart.length * 2);
+			runOffsets = Arrays.copyOf(runOffsets, runOffsets.length * 2);
+		}
+		int offset = runOffsets[runs];
+		if(offset + count > cids.length){
+			cids = Arrays.copyOf(cids, Math.max(cids.length * 2, offset + count));
+		}
+		System.arraycopy(set, from, cids, offset, count);
+		runStart[runs] = line;
+		lastFingerprint = fingerprint;
+		runs++;
+		runOffsets[runs] = offset + count;
+	}
+
+	//true if the last run holds exactly the count CIDs of set starting at from, only then does the sweep extend it
+	private boolean lastRunHolds(long fingerprint, int[] set, int from, int count){
+		int run = runs - 1;
+		if(lastFingerprint != fingerprint || runCount(run) != count){
+			return false;
+		}
+		for(int i = 0; i < count; i++){ //confirm, fingerprints may collide
+			if(cids[runOffsets[run] + i] != set[from + i]){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	//spreads the bits of a CID, summing these gives a fingerprint of the multiset of CIDs
+	private static long mix(int CID){
+		long h = CID * 0x9E3779B97F4A7C15L;
+		h ^= h >>> 32;
+		h *= 0xD6E8FEB86659FD93L;
+		return h ^ (h >>> 32);
+	}
+
+	//number of source lines
+	int size(){
+		return lines;
+	}
+
+	//number of lines covered by at least one clone (TCL)
+	int coveredLines(){
+		return coveredLines;
+	}
+
+	//number of runs, neighbouring runs never hold the same CIDs
+	int runs(){
+		return runs;
+	}
+
+	//first line (0-based) of a run
+	int runStart(int run){
+		return runStart[run];
+	}
+
+	//line after the last line of a run
+	int runEnd(int run){
+		return runStart[run+1];
+	}
+
+	//run holding a line (0-based)
+	int runOf(int line){
+		if(line < 0 || line >= lines){
+			throw new IndexOutOfBoundsException("Line " + (line + 1) + " is outside the source code");
+		}
+		int run = Arrays.binarySearch(runStart, 0, runs, line);
+		return run >= 0 ? run : -run - 2;
+	}
+
+	//number of CIDs in a run
+	int runCount(int run){
+		return runOffsets[run+1] - runOffsets[run];
+	}
+
+	//number of CIDs on a line (0-based)
+	int count(int line){
+		return runCount(runOf(line));
+	}
+
+	/**
+	 * Copies the CIDs of a line into a buffer
+	 * @param line - line (0-based)
+	 * @param dest - buffer with room for count(line) more CIDs
+	 * @param at - where to start writing
+	 * @return position after the last CID written
+	 */
+	int copyTo(int line, int[] dest, int at){
+		int run = runOf(line);
+		int length = runCount(run);
+		System.arraycopy(cids, runOffsets[run], dest, at, length);
+		return at + length;
+	}
+
+	//CIDs of a run in list form, ex: "[3, 9]"
+	String runToString(int run){
+		StringBuilder sb = new StringBuilder("[");
+		for(int i = runOffsets[run]; i < runOffsets[run+1]; i++){
+			if(i > runOffsets[run]){
+				sb.append(", ");
+			}
+			sb.append(cids[i]);
+		}
+		return sb.append(']').toString();
+	}
+}
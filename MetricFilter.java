@@ -0,0 +1,241 @@
+/**
+ *	Name: MetricFilter.java
+ *	Purpose: Predicate over the columns of cloneM.tsv, ex: RNR>0.5 && TKS>=50 && McCabe<10.
+ *	An expression is compiled once into a tree of column comparisons joined by && and ||, each comparison
+ *	is one loop over its column and the tree combines their results row by row.
+ */
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+public abstract class MetricFilter {
+
+	private static final String[] OPERATORS = {">=", "<=", "==", "!=", ">", "<"}; //two character ones first
+	private static final int GREATER_OR_EQUAL = 0, LESS_OR_EQUAL = 1, EQUAL = 2, NOT_EQUAL = 3, GREATER = 4, LESS = 5; //index in OPERATORS
+
+	/**
+	 * @param metrics - rows to test
+	 * @return for each row, true if it passes the filter
+	 */
+	abstract boolean[] matches(CloneMetrics metrics);
+
+	/**
+	 * Compiles an expression of comparisons between a metric and a number, joined by &&, || and ! with parentheses.
+	 * Metrics are the columns of cloneM.tsv in any case, RNR is compared as a float like -rnr.
+	 * @param expression - ex: "RNR>0.5 && (TKS>=50 || LOOP>0)"
+	 * @return the compiled filter
+	 * @throws IllegalArgumentException if the expression can't be read
+	 */
+	public static MetricFilter compile(String expression){
+		Parser parser = new Parser(expression);
+		MetricFilter filter = parser.or();
+		parser.skipSpaces();
+		if(parser.position < expression.length()){
+			throw parser.error("unexpected '" + expression.charAt(parser.position) + "'");
+		}
+		return filter;
+	}
+
+	/**
+	 * The -rnr filter as a compiled filter, RNR greater than the value
+	 * @param filterValue - RNR filter value
+	 */
+	static MetricFilter rnrAbove(float filterValue){
+		return new Comparison(CloneMetrics.column("RNR"), GREATER, filterValue, filterValue);
+	}
+
+	//filter keeping the rows both filters keep
+	static MetricFilter both(MetricFilter left, MetricFilter right){
+		return new And(left, right);
+	}
+
+	//recursive descent over: or := and ("||" and)*, and := unary ("&&" unary)*, unary := "!" unary | "(" or ")" | metric operator number
+	private static final class Parser {
+
+		private final String text;
+		private int position = 0;
+
+		Parser(String text){
+			this.text = text;
+		}
+
+		MetricFilter or(){
+			MetricFilter left = and();
+			while(accept("||")){
+				left = new Or(left, and());
+			}
+			return left;
+		}
+
+		MetricFilter and(){
+			MetricFilter left = unary();
+			while(accept("&&")){
+				left = new And(left, unary());
+			}
+			return left;
+		}
+
+		MetricFilter unary(){
+			if(accept("!")){
+				return new Not(unary());
+			}
+			if(accept("(")){
+				MetricFilter inner = or();
+				if(!accept(")")){
+					throw error("missing ')'");
+				}
+				return inner;
+			}
+			return comparison();
+		}
+
+		MetricFilter comparison(){
+			skipSpaces();
+			int start = position;
+			while(position < text.length() && Character.isLetter(text.charAt(position))){
+				position++;
+			}
+			String name = text.substring(start, position);
+			int column = CloneMetrics.column(name);
+			if(column < 0){
+				throw error("unknown metric '" + name + "'");
+			}
+			int operator = -1;
+			for(int o = 0; o < OPERATORS.length && operator < 0; o++){
+				if(accept(OPERATORS[o])){
+					operator = o;
+				}
+			}
+			if(operator < 0){
+				throw error("missing comparison after " + name);
+			}
+			skipSpaces();
+			start = position;
+			while(position < text.length() && "+-.0123456789eE".indexOf(text.charAt(position)) >= 0){
+				position++;
+			}
+			String number = text.substring(start, position);
+			try{ //float columns get the constant Float.parseFloat gives, as -rnr reads its value
+				return new Comparison(column, operator, Double.parseDouble(number), Float.parseFloat(number));
+			} catch(NumberFormatException e){
+				throw error("missing number after " + name + OPERATORS[operator]);
+			}
+		}
+
+		boolean accept(String symbol){
+			skipSpaces();
+			if(text.startsWith(symbol, position)){
+				position += symbol.length();
+				return true;
+			}
+			return false;
+		}
+
+		void skipSpaces(){
+			while(position < text.length() && Character.isWhitespace(text.charAt(position))){
+				position++;
+			}
+		}
+
+		IllegalArgumentException error(String problem){
+			return new IllegalArgumentException("Bad filter at " + position + ": " + problem + " in \"" + text + "\"");
+		}
+	}
+
+	//metric compared to a constant, one loop per column
+	private static final class Comparison extends MetricFilter {
+
+		private final int column;
+		private final int operator; //index in OPERATORS
+		private final double value; //constant for integer columns
+		private final float floatValue; //constant for float columns
+
+		Comparison(int column, int operator, double value, float floatValue){
+			this.column = column;
+			this.operator = operator;
+			this.value = value;
+			this.floatValue = floatValue;
+		}
+
+		boolean[] matches(CloneMetrics metrics){
+			int n = metrics.size();
+			boolean[] keep = new boolean[n];
+			if(CloneMetrics.isFloat(column)){ //float against float, as -rnr compares
+				FloatBuffer values = metrics.floatColumn(column);
+				float v = floatValue;
+				if(operator == GREATER) for(int i = 0; i < n; i++) keep[i] = values.get(i) > v;
+				else if(operator == GREATER_OR_EQUAL) for(int i = 0; i < n; i++) keep[i] = values.get(i) >= v;
+				else if(operator == LESS) for(int i = 0; i < n; i++) keep[i] = values.get(i) < v;
+				else if(operator == LESS_OR_EQUAL) for(int i = 0; i < n; i++) keep[i] = values.get(i) <= v;
+				else if(operator == EQUAL) for(int i = 0; i < n; i++) keep[i] = values.get(i) == v;
+				else for(int i = 0; i < n; i++) keep[i] = values.get(i) != v;
+			}
+			else{
+				IntBuffer values = metrics.intColumn(column);
+				double v = value;
+				if(operator == GREATER) for(int i = 0; i < n; i++) keep[i] = values.get(i) > v;
+				else if(operator == GREATER_OR_EQUAL) for(int i = 0; i < n; i++) keep[i] = values.get(i) >= v;
+				else if(operator == LESS) for(int i = 0; i < n; i++) keep[i] = values.get(i) < v;
+				else if(operator == LESS_OR_EQUAL) for(int i = 0; i < n; i++) keep[i] = values.get(i) <= v;
+				else if(operator == EQUAL) for(int i = 0; i < n; i++) keep[i] = values.get(i) == v;
+				else for(int i = 0; i < n; i++) keep[i] = values.get(i) != v;
+			}
+			return keep;
+		}
+	}
+
+	private static final class And extends MetricFilter {
+
+		private final MetricFilter left, right;
+
+		And(MetricFilter left, MetricFilter right){
+			this.left = left;
+			this.right = right;
+		}
+
+		boolean[] matches(CloneMetrics metrics){
+			boolean[] keep = left.matches(metrics);
+			boolean[] other = right.matches(metrics);
+			for(int i = 0; i < keep.length; i++){
+				keep[i] &= other[i];
+			}
+			return keep;
+		}
+	}
+
+	private static final class Or extends MetricFilter {
+
+		private final MetricFilter left, right;
+
+		Or(MetricFilter left, MetricFilter right){
+			this.left = left;
+			this.right = right;
+		}
+
+		boolean[] matches(CloneMetrics metrics){
+			boolean[] keep = left.matches(metrics);
+			boolean[] other = right.matches(metrics);
+			for(int i = 0; i < keep.length; i++){
+				keep[i] |= other[i];
+			}
+			return keep;
+		}
+	}
+
+	private static final class Not extends MetricFilter {
+
+		private final MetricFilter inner;
+
+		Not(MetricFilter inner){
+			this.inner = inner;
+		}
+
+		boolean[] matches(CloneMetrics metrics){
+			boolean[] keep = inner.matches(metrics);
+			for(int i = 0; i < keep.length; i++){
+				keep[i] = !keep[i];
+			}
+			return keep;
+		}
+	}
+}
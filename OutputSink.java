@@ -0,0 +1,87 @@
+/**
+ *	Name: OutputSink.java
+ *	Purpose: Buffered destination for one output of one run (main table, FID list or s-prime).
+ *	Each sink owns its writer, so file outputs of concurrent runs never interleave. Console output goes out block by block
+ *	as it is printed, a server gives each request its own console.
+ */
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+public class OutputSink implements Closeable {
+
+	static final int BUFFER_SIZE = 1 << 16;
+	private static final String NEWLINE = System.lineSeparator();
+
+	private final Writer out;
+
+	private OutputSink(Writer out){
+		this.out = out;
+	}
+
+	/**
+	 * @param path - file to create
+	 * @return sink writing to the file through a large buffer
+	 * @throws IOException
+	 */
+	static OutputSink file(String path) throws IOException{
+		return new OutputSink(new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(Paths.get(path))), BUFFER_SIZE));
+	}
+
+	/**
+	 * @param console - console of the run, ex: System.out
+	 * @return sink printing to the console through a large buffer, the console stays open when the sink is closed
+	 */
+	static OutputSink console(PrintStream console){
+		return new OutputSink(new BufferedWriter(new ConsoleWriter(console), BUFFER_SIZE));
+	}
+
+	void print(String s) throws IOException{
+		out.write(s);
+	}
+
+	void print(int i) throws IOException{
+		out.write(Integer.toString(i));
+	}
+
+	void println(String s) throws IOException{
+		out.write(s);
+		out.write(NEWLINE);
+	}
+
+	void println() throws IOException{
+		out.write(NEWLINE);
+	}
+
+	public void close() throws IOException{
+		out.close();
+	}
+
+	//writes blocks of characters to a console in its own encoding, leaving the console open
+	private static class ConsoleWriter extends Writer {
+
+		private final PrintStream console;
+
+		ConsoleWriter(PrintStream console){
+			this.console = console;
+		}
+
+		public void write(char[] cbuf, int off, int len){
+			console.print(new String(cbuf, off, len));
+		}
+
+		public void flush(){
+			console.flush();
+		}
+
+		public void close(){
+			console.flush();
+		}
+	}
+}
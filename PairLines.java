@@ -0,0 +1,343 @@
+/**
+ *	Name: PairLines.java
+ *	Purpose: Lines of every clone pair found in one sequential scan of the token file, without holding a line for every token.
+ *	The token positions the analysis asks about are sorted within a memory budget, spilling sorted runs to disk
+ *	when they don't fit, then merged while the token file streams by once. When the runs are too many for each to
+ *	get a read buffer within the budget, the oldest ones are first merged together into longer runs.
+ *	The lines found are held for every pair, a budget too small for them is refused rather than exceeded.
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class PairLines {
+
+	private static final int FIRST = 0, SECOND = 1, LAST = 2; //tokens begin, begin+1 and end-1 of a pair
+	private static final int PAIR_BYTES = 4 * 4 + 2 * 4; //first, second, last, length and changesAt of a pair, held whatever the budget
+	private static final int MIN_BUFFER = 1 << 12; //smallest read buffer of a run while merging
+	private static final long MIN_WORK = 2 * 3 * MIN_BUFFER; //records and merge of the smallest scan, three runs of one buffer each
+
+	private final int[] first; //line of the first token, SL
+	private final int[] second; //line of the second token, the clone beginning
+	private final int[] last; //line of the last token, EL
+	private final int[] length; //distinct lines from the first to the last token
+	private int runs = 0;
+	private long tokens = 0;
+
+	private PairLines(int pairs){
+		first = new int[pairs];
+		second = new int[pairs];
+		last = new int[pairs];
+		length = new int[pairs];
+	}
+
+	//lines found some other way, see ProjectAnalysis
+	PairLines(int[] first, int[] second, int[] last, int[] length){
+		this.first = first;
+		this.second = second;
+		this.last = last;
+		this.length = length;
+	}
+
+	/**
+	 * Finds the lines of every clone pair
+	 * @param tokenFile - token file, plain or compressed, read once from start to end
+	 * @param pairs - clone pairs, their token positions are the only ones kept
+	 * @param budget - bytes the scan may hold, the per-pair arrays first, positions beyond the rest are sorted in runs on disk
+	 * @return lines and length of each pair
+	 * @throws IOException if the token file is shorter than a pair needs, or if the budget can't hold the per-pair arrays
+	 */
+	static PairLines scan(String tokenFile, ClonePairs pairs, long budget) throws IOException{
+		long available = budget - (long)PAIR_BYTES * pairs.size(); //what the per-pair arrays leave
+		if(available < MIN_WORK){
+			long needed = ((long)PAIR_BYTES * pairs.size() + MIN_WORK + (1 << 20) - 1) >> 20;
+			throw new IOException("A -budget of " + (budget >> 20) + "MB can't hold the lines of " + pairs.size() + " clone pairs, they need at least " + needed + "MB");
+		}
+		PairLines result = new PairLines(pairs.size());
+		//a record is the token position in the high half and pair * 4 + slot in the low half, so records sort by position
+		int capacity = (int)Math.min(Integer.MAX_VALUE - 8, available / 2 / 8); //half for the records, half for merging
+		long[] records = new long[(int)Math.min(capacity, 3L * pairs.size())];
+		ArrayList<Path> spilled = new ArrayList<Path>();
+		try{
+			int n = 0;
+			for(int i = 0; i < pairs.size(); i++){
+				if(n + 3 > records.length){
+					spilled.add(spill(records, n));
+					n = 0;
+				}
+				records[n++] = record(pairs.begin(i), i, FIRST);
+				records[n++] = record(pairs.begin(i) + 1, i, SECOND);
+				records[n++] = record(pairs.end(i) - 1, i, LAST);
+			}
+			Arrays.sort(records, 0, n);
+			result.runs = spilled.size();
+			long mergeBudget = available / 2;
+			int fanIn = (int)Math.max(3, Math.min(1 << 16, mergeBudget / MIN_BUFFER)); //runs merged at once, each with its buffer
+			while(spilled.size() > fanIn){ //the oldest runs become one, the writer takes the buffer of one run
+				ArrayList<Path> oldest = new ArrayList<Path>(spilled.subList(0, fanIn - 1));
+				spilled.add(mergeRuns(oldest, mergeBudget));
+				for(Path merged : oldest){
+					Files.delete(merged);
+				}
+				spilled.subList(0, oldest.size()).clear();
+			}
+			int[] changesAt = new int[pairs.size() * 2]; //line changes up to the first and last token of each pair
+			InputStream in = InputFile.open(tokenFile);
+			try{
+				RecordSource source = spilled.isEmpty() ? new ArraySource(records, n) : new MergeSource(spilled, records, n, mergeBudget);
+				result.merge(source, new TokenFile.LineReader(in), changesAt);
+				source.close();
+			} finally{
+				in.close();
+			}
+			for(int i = 0; i < pairs.size(); i++){ //as TokenLineTable.distinctLines
+				result.length[i] = pairs.end(i) <= pairs.begin(i) ? 0 : 1 + changesAt[2*i+1] - changesAt[2*i];
+			}
+		} finally{
+			for(Path run : spilled){
+				Files.deleteIfExists(run);
+			}
+		}
+		return result;
+	}
+
+	private static long record(int position, int pair, int slot) throws IOException{
+		if(position < 0){ //an empty pair at token 0, there is no token before it
+			throw new IOException("Malformed clone pair " + pair + ", token " + position);
+		}
+		return ((long)position << 32) | (((long)pair << 2) | slot);
+	}
+
+	//writes the first n records sorted to a run file
+	private static Path spill(long[] records, int n) throws IOException{
+		Arrays.sort(records, 0, n);
+		Path run = Files.createTempFile("ccm-run", ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), 1 << 16));
+		try{
+			for(int i = 0; i < n; i++){
+				out.writeLong(records[i]);
+			}
+		} finally{
+			out.close();
+		}
+		return run;
+	}
+
+	/**
+	 * Merges runs into a new run, with as much buffer per run as the merge of the final pass
+	 * @param runs - sorted runs, left in place
+	 * @param budget - bytes of the read buffers and the write buffer together
+	 * @return the merged run
+	 */
+	private static Path mergeRuns(ArrayList<Path> runs, long budget) throws IOException{
+		Path run = Files.createTempFile("ccm-run", ".tmp");
+		MergeSource source = null;
+		boolean done = false;
+		try{
+			source = new MergeSource(runs, new long[0], 0, budget * runs.size() / (runs.size() + 1));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), source.buffer));
+			try{
+				for(long r = source.next(); r >= 0; r = source.next()){
+					out.writeLong(r);
+				}
+			} finally{
+				out.close();
+			}
+			done = true;
+		} finally{
+			if(source != null){
+				source.close();
+			}
+			if(!done){
+				Files.deleteIfExists(run);
+			}
+		}
+		return run;
+	}
+
+	//walks the tokens up to each record's position, keeping only the current line and the count of line changes
+	private void merge(RecordSource source, TokenFile.LineReader reader, int[] changesAt) throws IOException{
+		long token = -1;
+		int line = -1, changes = 0;
+		for(long r = source.next(); r >= 0; r = source.next()){
+			long position = r >>> 32;
+			while(token < position){
+				int next = reader.next();
+				if(next < 0){
+					throw new IOException("The token file ends before token " + position);
+				}
+				token++;
+				if(token > 0 && next != line){
+					changes++;
+				}
+				line = next;
+			}
+			int pair = (int)((r & 0xffffffffL) >>> 2);
+			int slot = (int)(r & 3);
+			if(slot == FIRST){
+				first[pair] = line;
+				changesAt[2*pair] = changes;
+			}
+			else if(slot == SECOND){
+				second[pair] = line;
+			}
+			else{
+				last[pair] = line;
+				changesAt[2*pair+1] = changes;
+			}
+		}
+		tokens = token + 1;
+	}
+
+	//sorted records, -1 after the last one
+	private interface RecordSource {
+		long next() throws IOException;
+		void close() throws IOException;
+	}
+
+	private static final class ArraySource implements RecordSource {
+
+		private final long[] records;
+		private final int n;
+		private int i = 0;
+
+		ArraySource(long[] records, int n){
+			this.records = records;
+			this.n = n;
+		}
+
+		public long next(){
+			return i < n ? records[i++] : -1;
+		}
+
+		public void close(){
+		}
+	}
+
+	/**
+	 * Merges the spilled runs and the records still in memory, smallest head first.
+	 * The sources are kept in a binary heap ordered by their heads, records are unique so heads never tie.
+	 */
+	private static final class MergeSource implements RecordSource {
+
+		private final DataInputStream[] runs;
+		private final long[] heads;
+		private final ArraySource rest;
+		private final int[] heap; //sources that still have records, heap[0] has the smallest head
+		private int size = 0;
+		private final int buffer; //bytes read ahead from each run
+
+		MergeSource(ArrayList<Path> spilled, long[] records, int n, long budget) throws IOException{
+			runs = new DataInputStream[spilled.size()];
+			heads = new long[spilled.size() + 1]; //the last head is of the records in memory
+			rest = new ArraySource(records, n);
+			heap = new int[heads.length];
+			buffer = (int)Math.max(MIN_BUFFER, Math.min(1 << 20, budget / Math.max(1, runs.length)));
+			for(int r = 0; r < heads.length; r++){
+				if(r < runs.length){
+					runs[r] = new DataInputStream(new BufferedInputStream(Files.newInputStream(spilled.get(r)), buffer));
+				}
+				advance(r);
+				if(heads[r] >= 0){
+					heap[size++] = r;
+				}
+			}
+			for(int i = size / 2 - 1; i >= 0; i--){
+				down(i);
+			}
+		}
+
+		//reads the next head of a source, -1 when it is used up
+		private void advance(int r) throws IOException{
+			if(r == runs.length){
+				heads[r] = rest.next();
+			}
+			else{
+				try{
+					heads[r] = runs[r].readLong();
+				} catch(EOFException e){
+					heads[r] = -1;
+				}
+			}
+		}
+
+		//moves the source at i down the heap until its children have larger heads
+		private void down(int i){
+			int r = heap[i];
+			while(2 * i + 1 < size){
+				int child = 2 * i + 1;
+				if(child + 1 < size && heads[heap[child + 1]] < heads[heap[child]]){
+					child++;
+				}
+				if(heads[heap[child]] >= heads[r]){
+					break;
+				}
+				heap[i] = heap[child];
+				i = child;
+			}
+			heap[i] = r;
+		}
+
+		public long next() throws IOException{
+			if(size == 0){
+				return -1;
+			}
+			int r = heap[0];
+			long record = heads[r];
+			advance(r);
+			if(heads[r] < 0){ //the source is used up, the last one takes its place
+				heap[0] = heap[--size];
+			}
+			if(size > 0){
+				down(0);
+			}
+			return record;
+		}
+
+		public void close() throws IOException{
+			for(DataInputStream run : runs){
+				run.close();
+			}
+		}
+	}
+
+	//number of pairs
+	int size(){
+		return first.length;
+	}
+
+	int first(int pair){
+		return first[pair];
+	}
+
+	int second(int pair){
+		return second[pair];
+	}
+
+	int last(int pair){
+		return last[pair];
+	}
+
+	int length(int pair){
+		return length[pair];
+	}
+
+	//sorted runs written to disk, 0 if the positions fit in the budget
+	int runs(){
+		return runs;
+	}
+
+	//tokens read from the token file, up to the last one a pair needs
+	long tokens(){
+		return tokens;
+	}
+}
@@ -0,0 +1,448 @@
+/**
+ *	Name: ProjectAnalysis.java
+ *	Purpose: The -project pipeline, every file of prettyPrint.tsv in one analysis, ended incrementally when a state is kept.
+ *	Per-file work runs on the pool of the Engine that started it, the stages shared with single file analyses stay in Engine.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class ProjectAnalysis {
+
+	private final Engine engine; //engine of this analysis, for the stages shared with single files
+	private final ForkJoinPool pool; //pool of the engine, null to work on one file at a time
+	private final String state;
+	private final boolean bounds;
+	private final boolean largest;
+
+	/**
+	 * @param engine - engine built for this analysis, see Engine.analyze
+	 * @param analysisOptions - options of the analysis, already validated for a project
+	 * @param pool - pool of the engine, null when it runs on one thread
+	 */
+	ProjectAnalysis(Engine engine, AnalysisOptions analysisOptions, ForkJoinPool pool){
+		this.engine = engine;
+		this.pool = pool;
+		state = analysisOptions.state();
+		bounds = analysisOptions.bounds();
+		largest = analysisOptions.largest();
+	}
+
+	/**
+	 * Analyses every file of a project at once. Files are read, attributed and outlined in parallel,
+	 * CIDs are processed over all their snippets whatever file they are in, and |S|, TCL and |S'| are project totals.
+	 * @param input - project input, see AnalysisInput.project
+	 * @return result of the project, with the FIDs unless a state is kept
+	 * @throws IOException
+	 */
+	AnalysisResult run(final AnalysisInput input) throws IOException{
+		StageTimer stages = new StageTimer(input.sourceCode());
+		
+		stages.begin("parsing");
+		final SourceFiles sourceFiles = SourceFiles.read(input.prettyPrint(), input.sourceCode());
+		ClonePairs clonePairsList = engine.readClonePairs(input.prettyPrint(), "clone_pairs {", "}");
+		CloneMetrics cloneMetrics = CloneMetrics.read(input.cloneMetrics());
+		int[] fileSLOC = sourceFiles.sloc(input.lineMetrics());
+		final TokenLineTable[] tokenLines = new TokenLineTable[sourceFiles.size()];
+		final ProjectState.FileRecord[] kept = new ProjectState.FileRecord[sourceFiles.size()]; //records of the files not read
+		final int[] sourceLines = new int[sourceFiles.size()];
+		final ProjectState previous = state != null ? ProjectState.load(state) : null; //results of the last run, null to analyse everything
+		final long[][] stats = new long[sourceFiles.size()][];
+		final int[] reused = new int[1];
+		perFile(sourceFiles.size(), new FileWork(){
+			public void run(int file) throws IOException{
+				String path = sourceFiles.path(file);
+				if(state != null){ //pair lines and line count of an unchanged file come from the state
+					stats[file] = ProjectState.stat(path + input.tokenFile(), path);
+					ProjectState.FileRecord record = previous == null ? null : previous.file(path);
+					if(record != null && record.sameInputs(stats[file])){
+						kept[file] = record;
+						sourceLines[file] = record.lines;
+						synchronized(reused){
+							reused[0]++;
+						}
+						return;
+					}
+				}
+				tokenLines[file] = engine.readTokenLines(path + input.tokenFile(), null);
+				sourceLines[file] = engine.countLines(path);
+			}
+		});
+		int SLOC = 0;
+		for(int file = 0; file < fileSLOC.length; file++){
+			SLOC += fileSLOC[file];
+		}
+		stages.count("files", sourceFiles.size());
+		stages.count("clonePairs", clonePairsList.size());
+		stages.count("cloneMetrics", cloneMetrics.size());
+		if(state != null){
+			stages.count("filesReused", reused[0]);
+		}
+		
+		stages.begin("rnrFilter");
+		int metricsBefore = cloneMetrics.size();
+		cloneMetrics = engine.filterRNR(cloneMetrics);
+		int[][] matrixCID = engine.matrixCID(cloneMetrics);
+		CIDIndex cidIndex = new CIDIndex(matrixCID);
+		int pairsBefore = clonePairsList.size();
+		clonePairsList = engine.filterClonePairs(clonePairsList, matrixCID);
+		int[] fileOfPair = new int[clonePairsList.size()];
+		for(int i = 0; i < fileOfPair.length; i++){
+			fileOfPair[i] = sourceFiles.indexOf(clonePairsList.fid(i));
+			if(fileOfPair[i] < 0){
+				throw new IOException("FID " + clonePairsList.fid(i) + " is not in source_files");
+			}
+		}
+		stages.count("cidsKept", matrixCID.length);
+		stages.count("cidsFiltered", metricsBefore - cloneMetrics.size());
+		stages.count("pairsKept", clonePairsList.size());
+		stages.count("pairsFiltered", pairsBefore - clonePairsList.size());
+		
+		stages.begin("lengthUpdate");
+		PairLines pairLines = pairLines(clonePairsList, fileOfPair, tokenLines, kept, sourceFiles, input.tokenFile(), stages);
+		engine.updateLength(clonePairsList, pairLines, matrixCID, cidIndex);
+		stages.count("pairs", clonePairsList.size());
+		
+		stages.begin("snippets");
+		ArrayList<int[]> snippets = engine.snippetList(clonePairsList, pairLines, fileOfPair);
+		final ArrayList<ArrayList<int[]>> fileSnippets = new ArrayList<ArrayList<int[]>>(sourceFiles.size());
+		final int[][] fileBeginnings = new int[sourceFiles.size()][];
+		int[] beginningCount = new int[sourceFiles.size()];
+		for(int file = 0; file < sourceFiles.size(); file++){
+			fileSnippets.add(new ArrayList<int[]>());
+		}
+		for(int[] snippet : snippets){
+			fileSnippets.get(snippet[4]).add(snippet);
+		}
+		for(int i = 0; i < fileOfPair.length; i++){
+			beginningCount[fileOfPair[i]]++;
+		}
+		for(int file = 0; file < sourceFiles.size(); file++){
+			fileBeginnings[file] = new int[beginningCount[file]];
+			beginningCount[file] = 0;
+		}
+		for(int i = 0; i < fileOfPair.length; i++){
+			int file = fileOfPair[i];
+			fileBeginnings[file][beginningCount[file]++] = pairLines.second(i); //as in cloneBeginnings
+		}
+		stages.count("snippets", snippets.size());
+		stages.count("snippetsDeduplicated", clonePairsList.size() - snippets.size());
+		
+		stages.begin("containment");
+		ContainmentGraph containment = new ContainmentGraph(snippets, matrixCID, cidIndex);
+		String[] addBackChains = engine.reportAddBack(containment);
+		stages.count("cids", containment.size());
+		
+		if(state != null){
+			return finishIncremental(stages, SLOC, matrixCID, cidIndex, snippets, addBackChains, sourceFiles, stats,
+					clonePairsList, fileOfPair, pairLines, sourceLines, fileSnippets, fileBeginnings, previous);
+		}
+		
+		stages.begin("attributes");
+		final LineAttributes[] files = new LineAttributes[sourceFiles.size()];
+		final int[] fileCalls = new int[sourceFiles.size()];
+		perFile(sourceFiles.size(), new FileWork(){
+			public void run(int file){
+				files[file] = engine.createAttributes(sourceLines[file], fileSnippets.get(file));
+				fileCalls[file] = engine.callsOf(files[file], fileBeginnings[file]);
+			}
+		});
+		int TCL = 0;
+		int calls = 0;
+		for(int file = 0; file < files.length; file++){
+			TCL += engine.totalCloneLines(files[file]);
+			calls += fileCalls[file];
+		}
+		stages.count("linesAttributed", TCL);
+		stages.count("calls", calls);
+		
+		return engine.finish(stages, SLOC, TCL, calls, matrixCID, snippets, files, addBackChains, null, null);
+	}
+	
+	/**
+	 * Lines of every clone pair. A file read in this run gives them from its token lines, an unchanged file from its record
+	 * in the state, unless it has a pair the last run didn't, then its token file is read after all.
+	 * @param tokenLines - token lines of each file read, null for the others
+	 * @param kept - record of each file not read, null for the others
+	 * @return SL, beginning, EL and length of each pair
+	 */
+	private PairLines pairLines(ClonePairs pairs, int[] fileOfPair, final TokenLineTable[] tokenLines, ProjectState.FileRecord[] kept,
+			final SourceFiles sourceFiles, final String tokenSuffix, StageTimer stages) throws IOException{
+		int[] found = new int[pairs.size()]; //pair of the record, for the files not read
+		final boolean[] read = new boolean[tokenLines.length];
+		for(int i = 0; i < pairs.size(); i++){
+			int file = fileOfPair[i];
+			if(tokenLines[file] == null){
+				found[i] = kept[file].find(pairs.begin(i), pairs.end(i));
+				read[file] |= found[i] < 0;
+			}
+		}
+		int reread = 0;
+		for(int file = 0; file < read.length; file++){
+			if(read[file]){
+				reread++;
+			}
+		}
+		perFile(read.length, new FileWork(){
+			public void run(int file) throws IOException{
+				if(read[file]){
+					tokenLines[file] = engine.readTokenLines(sourceFiles.path(file) + tokenSuffix, null);
+				}
+			}
+		});
+		int[] first = new int[pairs.size()];
+		int[] second = new int[pairs.size()];
+		int[] last = new int[pairs.size()];
+		int[] length = new int[pairs.size()];
+		for(int i = 0; i < pairs.size(); i++){
+			int file = fileOfPair[i];
+			TokenLineTable lines = tokenLines[file];
+			if(lines != null){
+				first[i] = lines.lineOf(pairs.begin(i));
+				second[i] = lines.lineOf(pairs.begin(i) + 1);
+				last[i] = lines.lineOf(pairs.end(i) - 1);
+				length[i] = engine.getCloneLength(pairs.begin(i), pairs.end(i), lines);
+			}
+			else{
+				first[i] = kept[file].line(found[i], 0);
+				second[i] = kept[file].line(found[i], 1);
+				last[i] = kept[file].line(found[i], 2);
+				length[i] = kept[file].line(found[i], 3);
+			}
+		}
+		if(state != null){
+			stages.count("filesReread", reread);
+		}
+		return new PairLines(first, second, last, length);
+	}
+	
+	/**
+	 * Ends a project analysis keeping a state: only files whose snippets changed are attributed again, and only CIDs having
+	 * a snippet in such a file go through functionID. TCL and calls of the other files and the chunk values of the other CIDs
+	 * come from the state of the last run. Files and CIDs are matched through signatures of their snippets, not through FIDs
+	 * or CIDs, which CCFinderX numbers again on every run. The new state is saved before |S'|, which it doesn't need.
+	 * @param stats - size and time of the inputs of each file, see ProjectState.stat
+	 * @param pairLines - lines of each clone pair, kept in the state for the files whose token file won't change
+	 * @param previous - state of the last run, null if there is none
+	 * @return result of the project, without FIDs
+	 */
+	private AnalysisResult finishIncremental(StageTimer stages, int SLOC, int[][] matrixCID, CIDIndex cidIndex, ArrayList<int[]> snippets,
+			String[] addBackChains, SourceFiles sourceFiles, long[][] stats, ClonePairs pairs, int[] fileOfPair,
+			PairLines pairLines, int[] sourceLines,
+			final ArrayList<ArrayList<int[]>> fileSnippets, final int[][] fileBeginnings, ProjectState previous) throws IOException{
+		stages.begin("signatures");
+		int fileCount = sourceFiles.size();
+		int[] firstSnippet = new int[matrixCID.length + 1]; //snippets of row i start at firstSnippet[i], as in functionID
+		for(int i = 0; i < matrixCID.length; i++){
+			firstSnippet[i+1] = firstSnippet[i] + matrixCID[i][1];
+		}
+		long[] pathHash = new long[fileCount];
+		for(int file = 0; file < fileCount; file++){
+			pathHash[file] = ProjectState.hash(sourceFiles.path(file));
+		}
+		long[] classSignature = new long[matrixCID.length]; //the fragments of a CID, whatever its number
+		for(int i = 0; i < matrixCID.length; i++){
+			for(int j = firstSnippet[i]; j < firstSnippet[i+1]; j++){
+				int[] snippet = snippets.get(j);
+				classSignature[i] += ProjectState.mix(pathHash[snippet[4]], snippet[1], snippet[2]);
+			}
+		}
+		long[] fileSignature = new long[fileCount]; //everything the attributes, TCL and calls of a file depend on
+		boolean[] changed = new boolean[fileCount];
+		int filesChanged = 0;
+		for(int file = 0; file < fileCount; file++){
+			long signature = 0;
+			for(int[] snippet : fileSnippets.get(file)){
+				signature += ProjectState.mix(classSignature[cidIndex.row(snippet[0])], snippet[1], snippet[2]);
+			}
+			long beginnings = 0;
+			for(int line : engine.sortedBeginnings(fileBeginnings[file])){
+				beginnings = ProjectState.mix(beginnings, line, 0);
+			}
+			fileSignature[file] = signature + ProjectState.mix(sourceLines[file], beginnings, 1);
+			ProjectState.FileRecord record = previous == null ? null : previous.file(sourceFiles.path(file));
+			changed[file] = record == null || record.signature != fileSignature[file];
+			if(changed[file]){
+				filesChanged++;
+			}
+		}
+		int[][] values = new int[matrixCID.length][]; //LENGTH CSIZE CHUNKS MINLENGTH MINCSIZE MINCHUNKS of each row, null to recompute
+		final boolean[] attribute = changed.clone(); //files whose attributes are needed
+		int recompute = 0;
+		for(int i = 0; i < matrixCID.length; i++){
+			boolean dirty = false;
+			for(int j = firstSnippet[i]; j < firstSnippet[i+1] && !dirty; j++){
+				dirty = changed[snippets.get(j)[4]];
+			}
+			values[i] = dirty || previous == null ? null : previous.values(classSignature[i]);
+			if(values[i] == null){
+				recompute++;
+				for(int j = firstSnippet[i]; j < firstSnippet[i+1]; j++){
+					attribute[snippets.get(j)[4]] = true;
+				}
+			}
+		}
+		stages.count("filesChanged", filesChanged);
+		stages.count("cidsRecomputed", recompute);
+		
+		stages.begin("attributes");
+		final LineAttributes[] files = new LineAttributes[fileCount];
+		final int[] fileTCL = new int[fileCount];
+		final int[] fileCalls = new int[fileCount];
+		final int[] lines = sourceLines;
+		perFile(fileCount, new FileWork(){
+			public void run(int file){
+				if(attribute[file]){
+					files[file] = engine.createAttributes(lines[file], fileSnippets.get(file));
+					fileTCL[file] = engine.totalCloneLines(files[file]);
+					fileCalls[file] = engine.callsOf(files[file], fileBeginnings[file]);
+				}
+			}
+		});
+		int TCL = 0;
+		int calls = 0;
+		for(int file = 0; file < fileCount; file++){
+			if(!attribute[file]){
+				ProjectState.FileRecord record = previous.file(sourceFiles.path(file));
+				fileTCL[file] = record.TCL;
+				fileCalls[file] = record.calls;
+			}
+			TCL += fileTCL[file];
+			calls += fileCalls[file];
+		}
+		stages.count("linesAttributed", TCL);
+		stages.count("calls", calls);
+		
+		stages.begin("functionID");
+		int[][] dirtyMatrix = new int[recompute][]; //rows to recompute, with their snippets in the same order
+		int[] dirtyRow = new int[recompute];
+		ArrayList<int[]> dirtySnippets = new ArrayList<int[]>();
+		for(int i = 0, d = 0; i < matrixCID.length; i++){
+			if(values[i] == null){
+				dirtyMatrix[d] = matrixCID[i].clone();
+				dirtyRow[d++] = i;
+				dirtySnippets.addAll(snippets.subList(firstSnippet[i], firstSnippet[i+1]));
+			}
+		}
+		int[] smallestLengths = new int[recompute];
+		FunctionIDs listOfFID = engine.functionID(dirtySnippets, files, dirtyMatrix, smallestLengths); //largest lengths, smallest ones are the first positions
+		int[][] largestChunk = engine.chunkValues(listOfFID);
+		int[][] smallestChunk = engine.chunkValues(listOfFID, smallestLengths);
+		for(int d = 0; d < recompute; d++){
+			int[] rowValues = {dirtyMatrix[d][2], largestChunk[d][0], largestChunk[d][1], smallestLengths[d], smallestChunk[d][0], smallestChunk[d][1]};
+			values[dirtyRow[d]] = rowValues;
+		}
+		stages.count("rows", listOfFID.rows());
+		
+		stages.begin("state");
+		ProjectState next = new ProjectState();
+		long[][] fileKeys = new long[fileCount][]; //pairs of each file, sorted without duplicates
+		int[] keyCount = new int[fileCount];
+		for(int i = 0; i < fileOfPair.length; i++){
+			keyCount[fileOfPair[i]]++;
+		}
+		for(int file = 0; file < fileCount; file++){
+			fileKeys[file] = new long[keyCount[file]];
+			keyCount[file] = 0;
+		}
+		for(int i = 0; i < fileOfPair.length; i++){
+			int file = fileOfPair[i];
+			fileKeys[file][keyCount[file]++] = ProjectState.key(pairs.begin(i), pairs.end(i));
+		}
+		for(int file = 0; file < fileCount; file++){
+			long[] keys = fileKeys[file];
+			Arrays.sort(keys);
+			int n = 0;
+			for(int k = 0; k < keys.length; k++){
+				if(n == 0 || keys[k] != keys[n-1]){
+					keys[n++] = keys[k];
+				}
+			}
+			fileKeys[file] = Arrays.copyOf(keys, n);
+		}
+		int[][] fileLines = new int[fileCount][];
+		for(int file = 0; file < fileCount; file++){
+			fileLines[file] = new int[ProjectState.LINES * fileKeys[file].length];
+		}
+		for(int i = 0; i < fileOfPair.length; i++){ //the same pair always has the same lines
+			int file = fileOfPair[i];
+			int at = ProjectState.LINES * Arrays.binarySearch(fileKeys[file], ProjectState.key(pairs.begin(i), pairs.end(i)));
+			fileLines[file][at] = pairLines.first(i);
+			fileLines[file][at + 1] = pairLines.second(i);
+			fileLines[file][at + 2] = pairLines.last(i);
+			fileLines[file][at + 3] = pairLines.length(i);
+		}
+		for(int file = 0; file < fileCount; file++){
+			next.putFile(new ProjectState.FileRecord(sourceFiles.path(file), stats[file], sourceLines[file], fileKeys[file], fileLines[file],
+					fileSignature[file], fileTCL[file], fileCalls[file]));
+		}
+		for(int i = 0; i < matrixCID.length; i++){
+			next.putValues(classSignature[i], values[i]);
+		}
+		next.save(state);
+		
+		stages.begin("chunking");
+		AnalysisResult smallest = null;
+		if(bounds){
+			smallest = engine.total(SLOC, TCL, calls, assembleMatrix(matrixCID, values, ProjectState.VALUES / 2), addBackChains, null, null);
+		}
+		int[][] resultMatrix = assembleMatrix(matrixCID, values, largest || bounds ? 0 : ProjectState.VALUES / 2);
+		return engine.total(SLOC, TCL, calls, resultMatrix, addBackChains, stages, smallest);
+	}
+	
+	//matrixCID with LENGTH CSIZE CHUNKS taken from the values of each row, starting at column from
+	private int[][] assembleMatrix(int[][] matrixCID, int[][] values, int from){
+		int[][] matrix = new int[matrixCID.length][];
+		for(int i = 0; i < matrixCID.length; i++){
+			matrix[i] = matrixCID[i].clone();
+			matrix[i][2] = values[i][from];
+			matrix[i][3] = values[i][from + 1];
+			matrix[i][4] = values[i][from + 2];
+		}
+		return matrix;
+	}
+	
+	//work done for one file of a project
+	private interface FileWork {
+		void run(int file) throws IOException;
+	}
+	
+	//runs the work of every file, on the pool of the engine when there is one
+	private void perFile(int files, final FileWork work) throws IOException{
+		if(pool == null){
+			for(int file = 0; file < files; file++){
+				work.run(file);
+			}
+			return;
+		}
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(files);
+		for(int file = 0; file < files; file++){
+			final int f = file;
+			tasks.add(new Callable<Void>(){
+				public Void call() throws IOException{
+					work.run(f);
+					return null;
+				}
+			});
+		}
+		try{
+			for(Future<Void> done : pool.invokeAll(tasks)){
+				done.get();
+			}
+		} catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while analysing the project", e);
+		} catch(ExecutionException e){
+			if(e.getCause() instanceof IOException){
+				throw (IOException)e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/**
+ *	Name: ProjectState.java
+ *	Purpose: Persisted state of a project analysis, so the next run only recomputes what changed.
+ *	Per file: size and time of its token and source files, line count, a signature of its snippets, TCL, calls,
+ *	and the lines of each of its clone pairs, so an unchanged token file isn't read again.
+ *	Per clone class: lengths and chunk values under both length assumptions, keyed by a signature of its fragments.
+ */
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+final class ProjectState {
+
+	private static final int MAGIC = 0x43434D50; //CCMP
+	private static final int VERSION = 2;
+	static final int VALUES = 6; //LENGTH CSIZE CHUNKS of the largest length, then of the smallest
+	static final int LINES = 4; //SL, beginning, EL and length of a clone pair, see PairLines
+	private static final long FILE_BYTES = 4 + 8 * 5 + 4 * 3 + 4; //a file record without its path and pairs
+	private static final long PAIR_BYTES = 8 + 4 * LINES;
+	private static final long CLASS_BYTES = 8 + 4 * VALUES;
+
+	//state of one source file
+	static final class FileRecord {
+
+		final String path;
+		final long tokenSize, tokenModified, sourceSize, sourceModified;
+		final int lines;
+		final long signature;
+		final int TCL;
+		final int calls;
+		private final long[] pairs; //begin and end tokens of each clone pair of the file, see key, sorted without duplicates
+		private final int[] pairLines; //LINES values of each pair
+
+		/**
+		 * @param pairs - keys of the clone pairs, sorted without duplicates
+		 * @param pairLines - SL, beginning, EL and length of each pair, in the order of the keys
+		 */
+		FileRecord(String path, long[] stat, int lines, long[] pairs, int[] pairLines, long signature, int TCL, int calls){
+			this.path = path;
+			this.tokenSize = stat[0];
+			this.tokenModified = stat[1];
+			this.sourceSize = stat[2];
+			this.sourceModified = stat[3];
+			this.lines = lines;
+			this.pairs = pairs;
+			this.pairLines = pairLines;
+			this.signature = signature;
+			this.TCL = TCL;
+			this.calls = calls;
+		}
+
+		//true if neither the token file nor the source file changed size or time since the record was made, see stat
+		boolean sameInputs(long[] stat){
+			return stat[0] == tokenSize && stat[1] == tokenModified && stat[2] == sourceSize && stat[3] == sourceModified;
+		}
+
+		//index of the pair from token begin to end, -1 if the last run had no such pair in the file
+		int find(int begin, int end){
+			int k = Arrays.binarySearch(pairs, key(begin, end));
+			return k < 0 ? -1 : k;
+		}
+
+		//value of a pair found by find, 0 for SL, 1 for the beginning, 2 for EL and 3 for the length
+		int line(int k, int value){
+			return pairLines[LINES * k + value];
+		}
+	}
+
+	private final HashMap<String, FileRecord> files = new HashMap<String, FileRecord>();
+	private final HashMap<Long, int[]> classes = new HashMap<Long, int[]>();
+
+	FileRecord file(String path){
+		return files.get(path);
+	}
+
+	void putFile(FileRecord record){
+		files.put(record.path, record);
+	}
+
+	//LENGTH CSIZE CHUNKS MINLENGTH MINCSIZE MINCHUNKS of a clone class, null if it wasn't analysed
+	int[] values(long signature){
+		return classes.get(signature);
+	}
+
+	void putValues(long signature, int[] values){
+		classes.put(signature, values);
+	}
+
+	//key of a clone pair in a file record, keys sort by begin then end
+	static long key(int begin, int end){
+		return ((long)begin << 32) | (end & 0xffffffffL);
+	}
+
+	/**
+	 * @param path - state file
+	 * @return the state, null if there is none or it can't be read, the run then analyses everything
+	 */
+	static ProjectState load(String path) throws IOException{
+		if(!new File(path).isFile()){
+			return null;
+		}
+		FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ);
+		try{
+			MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if(in.remaining() < 16 || in.getInt() != MAGIC || in.getInt() != VERSION){
+				return null;
+			}
+			ProjectState state = new ProjectState();
+			int fileCount = in.getInt();
+			int classCount = in.getInt();
+			if(fileCount < 0 || classCount < 0 || fileCount * FILE_BYTES + classCount * CLASS_BYTES > in.remaining()){
+				return null;
+			}
+			for(int i = 0; i < fileCount; i++){
+				byte[] name = new byte[count(in, 1)];
+				in.get(name);
+				String filePath = new String(name, StandardCharsets.UTF_8);
+				long[] stat = {in.getLong(), in.getLong(), in.getLong(), in.getLong()};
+				long signature = in.getLong();
+				int lines = in.getInt(), TCL = in.getInt(), calls = in.getInt();
+				int pairCount = count(in, PAIR_BYTES);
+				long[] pairs = new long[pairCount];
+				for(int k = 0; k < pairCount; k++){
+					pairs[k] = in.getLong();
+					if(k > 0 && pairs[k] <= pairs[k-1]){ //find needs them sorted
+						return null;
+					}
+				}
+				int[] pairLines = new int[LINES * pairCount];
+				for(int k = 0; k < pairLines.length; k++){
+					pairLines[k] = in.getInt();
+				}
+				state.putFile(new FileRecord(filePath, stat, lines, pairs, pairLines, signature, TCL, calls));
+			}
+			if(classCount * CLASS_BYTES != in.remaining()){
+				return null;
+			}
+			for(int i = 0; i < classCount; i++){
+				long signature = in.getLong();
+				int[] values = new int[VALUES];
+				for(int k = 0; k < VALUES; k++){
+					values[k] = in.getInt();
+				}
+				state.putValues(signature, values);
+			}
+			return state;
+		} catch(RuntimeException e){ //truncated or corrupt state, start over
+			return null;
+		} finally{
+			channel.close();
+		}
+	}
+
+	//a count of items of the given bytes each, one the rest of the state can't hold means a corrupt state
+	private static int count(ByteBuffer in, long bytes){
+		int n = in.getInt();
+		if(n < 0 || n > in.remaining() / bytes){
+			throw new IllegalStateException("Bad count " + n);
+		}
+		return n;
+	}
+
+	/**
+	 * Writes the state, replacing the old one in one move
+	 * @param path - state file
+	 */
+	void save(String path) throws IOException{
+		AtomicFile.write(path, new AtomicFile.Content(){
+			public void write(DataOutputStream out) throws IOException{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(files.size());
+				out.writeInt(classes.size());
+				for(FileRecord record : files.values()){
+					byte[] name = record.path.getBytes(StandardCharsets.UTF_8);
+					out.writeInt(name.length);
+					out.write(name);
+					out.writeLong(record.tokenSize);
+					out.writeLong(record.tokenModified);
+					out.writeLong(record.sourceSize);
+					out.writeLong(record.sourceModified);
+					out.writeLong(record.signature);
+					out.writeInt(record.lines);
+					out.writeInt(record.TCL);
+					out.writeInt(record.calls);
+					out.writeInt(record.pairs.length);
+					for(long pair : record.pairs){
+						out.writeLong(pair);
+					}
+					for(int value : record.pairLines){
+						out.writeInt(value);
+					}
+				}
+				for(Map.Entry<Long, int[]> entry : classes.entrySet()){
+					out.writeLong(entry.getKey());
+					for(int value : entry.getValue()){
+						out.writeInt(value);
+					}
+				}
+			}
+		});
+	}
+
+	//size and time of the token file and of the source file, taken before they are read
+	static long[] stat(String tokenFile, String sourceFile){
+		File tokens = new File(tokenFile);
+		File source = new File(sourceFile);
+		long[] stat = {tokens.length(), tokens.lastModified(), source.length(), source.lastModified()};
+		return stat;
+	}
+
+	//64 bit hash of a path, stable across runs
+	static long hash(String path){
+		long h = 0xcbf29ce484222325L; //FNV-1a
+		for(int i = 0; i < path.length(); i++){
+			h ^= path.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		return h;
+	}
+
+	//mixes values into a 64 bit hash, signatures add these up so order doesn't matter
+	static long mix(long a, long b, long c){
+		long h = a * 0x9E3779B97F4A7C15L + b;
+		h = (h ^ (h >>> 31)) * 0xBF58476D1CE4E5B9L + c;
+		h = (h ^ (h >>> 29)) * 0x94D049BB133111EBL;
+		return h ^ (h >>> 32);
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ *	Name: RNRSweep.java
+ *	Purpose: Immutable result of an RNR threshold sweep: TCL, |S'| and PR of every filter value, see Engine.sweepRNR
+ */
+
+import java.util.List;
+
+public final class RNRSweep {
+
+	private final int SLOC;
+	private final float[] thresholds;
+	private final int[] cids;
+	private final int[] TCL;
+	private final int[] refactoredSize;
+	private final int[] calls;
+	private final int[] FIDCalls;
+	private final int[] addBack;
+	private final List<StageTimer.Stage> stages;
+
+	RNRSweep(int SLOC, float[] thresholds, int[] cids, int[] TCL, int[] refactoredSize, int[] calls, int[] FIDCalls, int[] addBack,
+			List<StageTimer.Stage> stages){
+		this.SLOC = SLOC;
+		this.thresholds = thresholds.clone();
+		this.cids = cids;
+		this.TCL = TCL;
+		this.refactoredSize = refactoredSize;
+		this.calls = calls;
+		this.FIDCalls = FIDCalls;
+		this.addBack = addBack;
+		this.stages = stages;
+	}
+
+	//number of thresholds
+	public int size(){
+		return thresholds.length;
+	}
+
+	//|S|, the same for every threshold
+	public int sloc(){
+		return SLOC;
+	}
+
+	//RNR filter value of threshold i
+	public float threshold(int i){
+		return thresholds[i];
+	}
+
+	//CIDs left after filtering with threshold i
+	public int cids(int i){
+		return cids[i];
+	}
+
+	public int tcl(int i){
+		return TCL[i];
+	}
+
+	public int refactoredSize(int i){
+		return refactoredSize[i];
+	}
+
+	public float pr(int i){
+		return 100 - ((float)refactoredSize[i]/(float)SLOC)*100;
+	}
+
+	public int calls(int i){
+		return calls[i];
+	}
+
+	public int fidCalls(int i){
+		return FIDCalls[i];
+	}
+
+	public int addBack(int i){
+		return addBack[i];
+	}
+
+	//time, allocation and counts of every stage of the sweep
+	public List<StageTimer.Stage> stages(){
+		return stages;
+	}
+}
@@ -8,7 +8,7 @@
  */
 
 import java.io.*;
-import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.cli.ParseException;
 
@@ -20,74 +20,71 @@ public static void main(String[] args) {
 		Engine engine = new Engine();
 
 		try {
-			engine.handleArguments(args);
+			if(!engine.handleArguments(args)){
+				System.exit(engine.ifHelp() ? 0 : 1);
+			}
 		} catch (ParseException e) {
 			System.out.println("Check your arguments and try again. Type -h for help.");
+			System.exit(1);
 		} //handle args
 		
+		if(engine.ifServe()){ //analyses come from clients until the server is stopped, the JVM stays up
+			try {
+				AnalysisServer server = new AnalysisServer(engine.servePort(), engine.serveCache());
+				System.out.println("Serving on http://127.0.0.1:" + server.port() + "/analyze");
+			} catch (IOException e) {
+				System.out.println("Error: could not start the server, " + e.getMessage());
+				System.exit(1);
+			}
+			return;
+		}
+		
 		//input files
-		String fileName1 = args[0];	//clone pairs
-		String fileName2 = args[1]; //token file
-		String fileName3 = args[2]; //clone metrics
-		String fileName4 = args[3]; //line metrics
-		String fileName5 = args[4]; //contains the actual source code: S
+		AnalysisInput input = engine.analysisInput();
 		
 		//try read from file
 		try {
 			
-			//Create matrix containing clone pairs information - CID FID SL EL
-			int clonePairsRawLines = engine.countSectionLines(fileName1, "clone_pairs {", "}");
-			String[] clonePairsRaw = engine.sectionToArray(fileName1, "clone_pairs {", "}");
-			int[][] clonePairsList = new int[clonePairsRawLines][4];  
-			clonePairsList = engine.toCloneMatrix(clonePairsRaw, clonePairsRawLines); //clonePairsList is the Matrix
-			
-			//initialize arrays containing token data and cloneMetrics, respectively
-			String[] tokenFileArray = engine.fileToArray(fileName2);
-			String[] cloneMetrics = engine.fileToArray(fileName3);
-			
-			//filter based on RNR, replace cloneMetrics[] with only lines of RNR less than .5
-			cloneMetrics = engine.filterRNR(cloneMetrics); //possibly let user affect the filter for RNR
-			int[][] matrixCID = engine.matrixCID(cloneMetrics); //start creating the matrix to store data
-			clonePairsList = engine.filterClonePairs(clonePairsList, matrixCID); //then update clonePairsList matrix to only include unfiltered CIDs
-			
-			//add length and detect overlap to CID matrix, and update overlapMatrix
-			engine.updateLength(clonePairsList, tokenFileArray, matrixCID); //adds the length to the CID matrix
-			
-			//get SLOC from lineM.tsv file
-			String[] lineMetrics = engine.fileToArray(fileName4);
-			int SLOC = Integer.valueOf((engine.toWord(lineMetrics[1])[2]));  
-			
-			//Handling of source code directly
-			ArrayList<String> sourceCode = engine.fileToArrayList(fileName5);
-			ArrayList<int[]> snippets = engine.snippetList(clonePairsList, tokenFileArray); //each int[] will be of size 4, containing <CID,SL,EL,Lenth>
-			
-			ArrayList<ArrayList<String>> attributes = engine.createAttributes(sourceCode, snippets);
-			int[] lines = engine.cloneBeginnings(clonePairsList, tokenFileArray);
-			ArrayList<String> refactorSourceOutline = engine.refactorSourceOutline(attributes, sourceCode, lines);
-			ArrayList<ArrayList<ArrayList<String>>> listOfFID = engine.functionID(snippets, attributes, matrixCID);
-			int[][] valuesChunk = engine.chunkValues(listOfFID);
-			
-			//get TCL
-			int TCL = engine.totalCloneLines(attributes);
-			
-			//update matrixCID with containing values, chunk size, and chunk pieces
-			engine.updateFinal(valuesChunk, matrixCID);
-			
-			//final calculation
-			int refactoredSize = engine.approximateRefactoring(TCL, SLOC, valuesChunk, matrixCID);
-			float PR = 100 - ((float)refactoredSize/(float)SLOC)*100;
-
-			//Begin Output
-			if(engine.ifDisplayVersion()){
-				engine.displayVersion();
+			List<StageTimer.Stage> analysisStages;
+			StageTimer stages = new StageTimer(input.sourceCode());
+			if(engine.ifSweep()){ //table of |S'| per RNR filter value instead of a single analysis
+				RNRSweep sweep = Engine.sweepRNR(input, engine.analysisOptions(), engine.sweepValues());
+				analysisStages = sweep.stages();
+				
+				stages.begin("output");
+				if(engine.ifDisplayVersion()){
+					engine.displayVersion();
+				}
+				engine.sweepOutput(sweep, input.sourceCode());
 			}
-			engine.mainOutput(matrixCID, valuesChunk, SLOC, TCL, refactoredSize, PR, fileName5);
-			//Extra output arguments
-			if(engine.ifPrime()){
-				engine.outputSPrime(args[4], refactorSourceOutline); //Create file to store sPrime outline
+			else{
+				AnalysisResult result = Engine.analyze(input, engine.analysisOptions());
+				analysisStages = result.stages();
+				
+				//Begin Output
+				stages.begin("output");
+				if(engine.ifDisplayVersion()){
+					engine.displayVersion();
+				}
+				engine.mainOutput(result, input.sourceCode());
+				//Extra output arguments
+				if(engine.ifPrime() && input.isProject()){
+					System.out.println("The s-prime outline is per source file, it is not written for a project.");
+				}
+				else if(engine.ifPrime()){
+					engine.outputSPrime(input.sourceCode(), result); //Create file to store sPrime outline
+				}
+				if(engine.ifFunction() && result.functionIDs() == null){
+					System.out.println("The FID list only holds the CIDs recomputed from the state, it is not written.");
+				}
+				else if(engine.ifFunction()){
+					engine.outputFunctionIDFile(input.sourceCode(), result);
+				}
 			}
-			if(engine.ifFunction()){
-				engine.outputFunctionIDFile(args[4], listOfFID, matrixCID);
+			stages.count("files", engine.filesCreated());
+			stages.end();
+			if(engine.ifReport()){
+				engine.outputReport(analysisStages, stages.stages(), input.sourceCode());
 			}
 			//Time
 			if(engine.ifTime()){//used to test scaling 
@@ -99,9 +96,9 @@ public static void main(String[] args) {
 		} catch (IOException e1) {
 			System.out.println("Error: make sure all files exist.");
 			engine.printUsage();
+			System.exit(1); //error
 		}
 	
 		System.exit(0);//Success	
 	}
 }
-
@@ -0,0 +1,117 @@
+/**
+ *	Name: SourceFiles.java
+ *	Purpose: The source_files section of prettyPrint.tsv: FID and path of every file of a project analysis
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class SourceFiles {
+
+	private final int[] fids;
+	private final String[] paths;
+	private final CIDIndex index; //FIDs are looked up like CIDs
+
+	private SourceFiles(int[] fids, String[] paths){
+		this.fids = fids;
+		this.paths = paths;
+		int[][] keys = new int[fids.length][1];
+		for(int i = 0; i < fids.length; i++){
+			keys[i][0] = fids[i];
+		}
+		index = new CIDIndex(keys);
+	}
+
+	/**
+	 * Reads the source_files section, lines of FID, path and token count
+	 * @param prettyPrint - prettyPrint.tsv
+	 * @param root - directory relative paths are resolved against, null to keep them as they are
+	 * @return files in the order of the section
+	 * @throws IOException
+	 */
+	static SourceFiles read(String prettyPrint, String root) throws IOException{
+		ArrayList<Integer> fidList = new ArrayList<Integer>();
+		ArrayList<String> pathList = new ArrayList<String>();
+		FieldCursor cursor = new FieldCursor(prettyPrint);
+		try{
+			while(cursor.nextLine()){
+				if(cursor.lineEquals("source_files {")){
+					while(cursor.nextLine() && !cursor.lineEquals("}")){
+						if(cursor.blank()){
+							continue;
+						}
+						int FID = cursor.nextInt();
+						String path = cursor.nextText();
+						if(path.isEmpty()){
+							throw new IOException("Malformed source file: " + cursor.line());
+						}
+						File file = new File(path);
+						fidList.add(FID);
+						pathList.add(root == null || file.isAbsolute() ? path : new File(root, path).getPath());
+					}
+					break;
+				}
+			}
+		} finally{
+			cursor.close();
+		}
+		int[] fids = new int[fidList.size()];
+		for(int i = 0; i < fids.length; i++){
+			fids[i] = fidList.get(i);
+		}
+		return new SourceFiles(fids, pathList.toArray(new String[pathList.size()]));
+	}
+
+	//number of files
+	int size(){
+		return fids.length;
+	}
+
+	int fid(int file){
+		return fids[file];
+	}
+
+	String path(int file){
+		return paths[file];
+	}
+
+	//file of a FID, -1 if the FID isn't listed
+	int indexOf(int FID){
+		return index.row(FID);
+	}
+
+	/**
+	 * Reads the SLOC of every file from lineM.tsv, rows of FID LOC SLOC ...
+	 * @param lineMetrics - lineM.tsv
+	 * @return SLOC of each file
+	 * @throws IOException if a file has no row
+	 */
+	int[] sloc(String lineMetrics) throws IOException{
+		int[] SLOC = new int[fids.length];
+		boolean[] found = new boolean[fids.length];
+		FieldCursor cursor = new FieldCursor(lineMetrics);
+		try{
+			cursor.nextLine(); //header: FID LOC SLOC CVRL CLOC
+			while(cursor.nextLine()){
+				if(!cursor.hasField()){
+					continue;
+				}
+				int file = indexOf(cursor.nextInt());
+				cursor.nextInt(); //LOC
+				if(file >= 0){
+					SLOC[file] = cursor.nextInt();
+					found[file] = true;
+				}
+			}
+		} finally{
+			cursor.close();
+		}
+		for(int i = 0; i < fids.length; i++){
+			if(!found[i]){
+				throw new IOException("No line metrics for FID " + fids[i]);
+			}
+		}
+		return SLOC;
+	}
+}
@@ -0,0 +1,33 @@
+/**
+ *	Name: StageEvent.java
+ *	Purpose: JFR event committed at the end of every pipeline stage, ex: jcmd <pid> JFR.start then look for ccm.Stage
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ccm.Stage")
+@Label("CCM Stage")
+@Category("CCM")
+@Description("One stage of a CCM analysis")
+class StageEvent extends Event {
+
+	@Label("Stage")
+	String stage;
+
+	@Label("Input")
+	@Description("Source code file of the analysis")
+	String input;
+
+	@Label("Allocated")
+	@DataAmount
+	long allocated;
+
+	@Label("Counts")
+	@Description("What the stage processed, ex: pairs=10,tokens=5000")
+	String counts;
+}
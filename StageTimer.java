@@ -0,0 +1,175 @@
+/**
+ *	Name: StageTimer.java
+ *	Purpose: Times the stages of one run: elapsed time, bytes allocated by the running thread and what each stage processed.
+ *	Every stage is also committed as a JFR StageEvent, and the whole run can be written as a JSON report.
+ */
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StageTimer {
+
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	//one finished stage
+	public static final class Stage {
+
+		private final String name;
+		private final long nanos;
+		private final long allocated;
+		private final Map<String, Long> counts;
+
+		private Stage(String name, long nanos, long allocated, Map<String, Long> counts){
+			this.name = name;
+			this.nanos = nanos;
+			this.allocated = allocated;
+			this.counts = Collections.unmodifiableMap(counts);
+		}
+
+		public String name(){
+			return name;
+		}
+
+		public long nanos(){
+			return nanos;
+		}
+
+		//bytes allocated by the thread running the stage, -1 if the JVM can't tell
+		public long allocated(){
+			return allocated;
+		}
+
+		public Map<String, Long> counts(){
+			return counts;
+		}
+	}
+
+	private final String input;
+	private final ArrayList<Stage> stages = new ArrayList<Stage>();
+	private String current;
+	private long start;
+	private long startBytes;
+	private LinkedHashMap<String, Long> counts;
+	private StageEvent event;
+
+	/**
+	 * @param input - name of the analysed source code, tags the JFR events
+	 */
+	StageTimer(String input){
+		this.input = input;
+	}
+
+	//starts a stage, ending the previous one if it is still open
+	void begin(String name){
+		if(current != null){
+			end();
+		}
+		current = name;
+		counts = new LinkedHashMap<String, Long>();
+		event = new StageEvent();
+		event.begin();
+		startBytes = allocatedBytes();
+		start = System.nanoTime();
+	}
+
+	//records what the current stage processed
+	void count(String name, long value){
+		counts.put(name, value);
+	}
+
+	void end(){
+		long nanos = System.nanoTime() - start;
+		long bytes = allocatedBytes();
+		long allocated = bytes < 0 || startBytes < 0 ? -1 : bytes - startBytes;
+		event.end();
+		if(event.shouldCommit()){
+			event.stage = current;
+			event.input = input;
+			event.allocated = allocated;
+			StringBuilder sb = new StringBuilder();
+			for(Map.Entry<String, Long> entry : counts.entrySet()){
+				if(sb.length() > 0){
+					sb.append(',');
+				}
+				sb.append(entry.getKey()).append('=').append(entry.getValue());
+			}
+			event.counts = sb.toString();
+			event.commit();
+		}
+		stages.add(new Stage(current, nanos, allocated, counts));
+		current = null;
+	}
+
+	List<Stage> stages(){
+		return Collections.unmodifiableList(new ArrayList<Stage>(stages));
+	}
+
+	private static long allocatedBytes(){
+		if(THREADS instanceof com.sun.management.ThreadMXBean){
+			com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)THREADS;
+			if(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()){
+				return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param version - CCM version
+	 * @param input - analysed source code
+	 * @param stages - stages in the order they ran
+	 * @return machine readable report of the stages
+	 */
+	static String toJson(String version, String input, List<Stage> stages){
+		long total = 0;
+		for(Stage stage : stages){
+			total += stage.nanos;
+		}
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\n  \"version\": ").append(quote(version));
+		sb.append(",\n  \"input\": ").append(quote(input));
+		sb.append(",\n  \"elapsedMillis\": ").append(millis(total));
+		sb.append(",\n  \"stages\": [");
+		for(int i = 0; i < stages.size(); i++){
+			Stage stage = stages.get(i);
+			sb.append(i == 0 ? "\n" : ",\n");
+			sb.append("    {\"stage\": ").append(quote(stage.name));
+			sb.append(", \"elapsedMillis\": ").append(millis(stage.nanos));
+			sb.append(", \"allocatedBytes\": ").append(stage.allocated);
+			sb.append(", \"counts\": {");
+			int n = 0;
+			for(Map.Entry<String, Long> entry : stage.counts.entrySet()){
+				sb.append(n++ == 0 ? "" : ", ").append(quote(entry.getKey())).append(": ").append(entry.getValue());
+			}
+			sb.append("}}");
+		}
+		sb.append("\n  ]\n}\n");
+		return sb.toString();
+	}
+
+	private static String millis(long nanos){
+		return String.valueOf(nanos / 1000 / 1000.0);
+	}
+
+	private static String quote(String s){
+		StringBuilder sb = new StringBuilder("\"");
+		for(int i = 0; i < s.length(); i++){
+			char c = s.charAt(i);
+			if(c == '"' || c == '\\'){
+				sb.append('\\').append(c);
+			}
+			else if(c < 0x20){
+				sb.append(String.format("\\u%04x", (int)c));
+			}
+			else{
+				sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+}
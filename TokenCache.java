@@ -0,0 +1,92 @@
+/**
+ *	Name: TokenCache.java
+ *	Purpose: Token line tables shared by the analyses of a server, least recently used first out under a memory budget.
+ *	A table is reused while its token file keeps the size and modification time it was read with.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class TokenCache {
+
+	private static final class Entry {
+		final long size, modified;
+		final TokenLineTable table;
+
+		Entry(long size, long modified, TokenLineTable table){
+			this.size = size;
+			this.modified = modified;
+			this.table = table;
+		}
+
+		long bytes(){
+			return 8L * table.size(); //line and change count of every token
+		}
+	}
+
+	private final long budget;
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, .75f, true); //access order
+	private long bytes = 0;
+	private long hits = 0, misses = 0, evictions = 0;
+
+	/**
+	 * @param budget - bytes the cached tables may take
+	 */
+	TokenCache(long budget){
+		this.budget = budget;
+	}
+
+	/**
+	 * @param path - token file
+	 * @param pool - threads decoding the file when it has to be read, null for one sequential pass
+	 * @return the cached table of the file, read again if the file changed or was evicted
+	 * @throws IOException
+	 */
+	TokenLineTable get(String path, ForkJoinPool pool) throws IOException{
+		File file = new File(path);
+		String key = file.getCanonicalPath();
+		long size = file.length(), modified = file.lastModified();
+		synchronized(this){
+			Entry entry = entries.get(key);
+			if(entry != null && entry.size == size && entry.modified == modified){
+				hits++;
+				return entry.table;
+			}
+			misses++;
+		}
+		TokenLineTable table = TokenLineTable.read(path, pool); //outside the lock, other requests keep going
+		Entry entry = new Entry(size, modified, table);
+		synchronized(this){
+			Entry old = entries.put(key, entry);
+			if(old != null){
+				bytes -= old.bytes();
+			}
+			bytes += entry.bytes();
+			Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+			while(bytes > budget && eldest.hasNext()){
+				Entry evicted = eldest.next().getValue();
+				if(evicted == entry){ //a table over the whole budget is still returned, just not kept
+					continue;
+				}
+				eldest.remove();
+				bytes -= evicted.bytes();
+				evictions++;
+			}
+			if(bytes > budget){
+				entries.remove(key);
+				bytes -= entry.bytes();
+			}
+		}
+		return table;
+	}
+
+	//counters as JSON members, see AnalysisServer
+	synchronized String toJson(){
+		return "\"tokenCache\": {\"entries\": " + entries.size() + ", \"bytes\": " + bytes + ", \"budget\": " + budget
+				+ ", \"hits\": " + hits + ", \"misses\": " + misses + ", \"evictions\": " + evictions + "}";
+	}
+}
@@ -0,0 +1,243 @@
+/**
+ *	Name: TokenFile.java
+ *	Purpose: Memory-mapped view of a .ccfxprep token file, decodes the source line number of every token.
+ *	Large files are split into byte ranges starting on a line, decoded in parallel and stitched together in file order.
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.Checksum;
+
+public class TokenFile {
+
+	private static final int SEGMENT_SHIFT = 30; //map in 1GB segments, a single buffer can't exceed 2GB
+	private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+	private static final long MIN_RANGE = 1 << 20; //smaller ranges aren't worth a task
+	private static final byte[] HEX = new byte[128]; //value of each hex digit, -1 for other characters
+
+	static{
+		Arrays.fill(HEX, (byte)-1);
+		for(int c = '0'; c <= '9'; c++){
+			HEX[c] = (byte)(c - '0');
+		}
+		for(int c = 'a'; c <= 'f'; c++){
+			HEX[c] = (byte)(c - 'a' + 10);
+			HEX[c - 'a' + 'A'] = (byte)(c - 'a' + 10);
+		}
+	}
+
+	private final MappedByteBuffer[] segments;
+	private final long length;
+
+	/**
+	 * Maps the file, nothing is decoded yet
+	 * @param path - token file to open
+	 * @throws IOException
+	 */
+	TokenFile(String path) throws IOException{
+		RandomAccessFile file = new RandomAccessFile(path, "r");
+		try{
+			FileChannel channel = file.getChannel();
+			length = channel.size();
+			segments = new MappedByteBuffer[(int)((length + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+			for(int i = 0; i < segments.length; i++){
+				long start = (long)i << SEGMENT_SHIFT;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_MASK + 1, length - start));
+			}
+		} finally{
+			file.close();
+		}
+	}
+
+	//adds every byte of the file to a checksum, from the mapping, ex: once the lines are decoded and the pages are in memory
+	void update(Checksum checksum){
+		for(MappedByteBuffer segment : segments){
+			checksum.update(segment.duplicate());
+		}
+	}
+
+	/**
+	 * Decodes the hex line number in front of the first '.' of every token, ex: "1a.3.f0	..." gives 26.
+	 * A trailing newline does not start another token.
+	 * @param pool - threads decoding the ranges, null to decode on the calling thread
+	 * @return line number of each token (line of the token file) in the source file
+	 * @throws IOException
+	 */
+	int[] lineNumbers(ForkJoinPool pool) throws IOException{
+		int parts = pool == null ? 1 : (int)Math.max(1, Math.min(pool.getParallelism() * 4, length / MIN_RANGE));
+		long[] bounds = new long[parts + 1];
+		for(int p = 1; p < parts; p++){
+			bounds[p] = Math.max(bounds[p-1], nextLine(length / parts * p - 1)); //first line starting at or after the split point
+		}
+		bounds[parts] = length;
+		if(parts == 1){
+			return decode(0, length).lines();
+		}
+
+		List<Callable<Range>> tasks = new ArrayList<Callable<Range>>(parts);
+		for(int p = 0; p < parts; p++){
+			final long start = bounds[p];
+			final long end = bounds[p+1];
+			tasks.add(new Callable<Range>(){
+				public Range call(){
+					return decode(start, end);
+				}
+			});
+		}
+		Range[] ranges = new Range[parts];
+		int total = 0;
+		try{
+			List<Future<Range>> done = pool.invokeAll(tasks);
+			for(int p = 0; p < parts; p++){
+				ranges[p] = done.get(p).get();
+				total += ranges[p].count;
+			}
+		} catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while reading the token file", e);
+		} catch(ExecutionException e){
+			throw new IOException("Could not read the token file", e.getCause());
+		}
+		int[] lines = new int[total];
+		int at = 0;
+		for(Range range : ranges){ //stitch the ranges back in file order
+			System.arraycopy(range.lines, 0, lines, at, range.count);
+			at += range.count;
+		}
+		return lines;
+	}
+
+	/**
+	 * Decodes the line numbers of a token file read as a stream, ex: a compressed one, in one sequential pass
+	 * @param in - bytes of the token file
+	 * @return line number of each token, as lineNumbers gives them
+	 * @throws IOException
+	 */
+	static int[] lineNumbers(InputStream in) throws IOException{
+		Range range = new Range();
+		LineReader reader = new LineReader(in);
+		for(int line = reader.next(); line >= 0; line = reader.next()){
+			range.add(line);
+		}
+		return range.lines();
+	}
+
+	/**
+	 * Line numbers of a token stream one token at a time, nothing is kept, see PairLines
+	 */
+	static final class LineReader {
+
+		private final InputStream in;
+		private final byte[] buffer = new byte[1 << 16];
+		private int pos = 0, filled = 0;
+
+		LineReader(InputStream in){
+			this.in = in;
+		}
+
+		/**
+		 * @return line number of the next token, -1 after the last one
+		 * @throws IOException
+		 */
+		int next() throws IOException{
+			int c = read();
+			if(c < 0){ //a trailing newline does not start another token
+				return -1;
+			}
+			int value = 0;
+			for(int digit = c < 128 ? HEX[c] : -1; digit >= 0; digit = c >= 0 && c < 128 ? HEX[c] : -1){
+				value = (value << 4) + digit;
+				c = read();
+			}
+			while(c >= 0 && c != '\n'){
+				c = read();
+			}
+			return value;
+		}
+
+		//next byte of the stream, -1 at its end
+		private int read() throws IOException{
+			if(pos == filled){
+				filled = in.read(buffer);
+				pos = 0;
+				if(filled <= 0){
+					filled = 0;
+					return -1;
+				}
+			}
+			return buffer[pos++] & 0xff;
+		}
+	}
+
+	//line numbers of the tokens starting in a byte range
+	private static final class Range {
+
+		int[] lines = new int[1024];
+		int count = 0;
+
+		void add(int line){
+			if(count == lines.length){
+				lines = Arrays.copyOf(lines, count + (count >> 1));
+			}
+			lines[count++] = line;
+		}
+
+		int[] lines(){
+			return count == lines.length ? lines : Arrays.copyOf(lines, count);
+		}
+	}
+
+	/**
+	 * @param start - offset of the first line of the range
+	 * @param end - offset where the next range starts
+	 */
+	private Range decode(long start, long end){
+		Range range = new Range();
+		long pos = start;
+		while(pos < end){
+			int value = 0;
+			while(pos < length){
+				int c = byteAt(pos);
+				int digit = c >= 0 ? HEX[c] : -1;
+				if(digit < 0){
+					break;
+				}
+				value = (value << 4) + digit;
+				pos++;
+			}
+			range.add(value);
+			pos = nextLine(pos);
+		}
+		return range;
+	}
+
+	//offset just after the next newline at or after pos, the length of the file if there is none
+	private long nextLine(long pos){
+		while(pos < length){
+			int s = (int)(pos >>> SEGMENT_SHIFT);
+			MappedByteBuffer segment = segments[s];
+			int limit = segment.limit();
+			for(int i = (int)(pos & SEGMENT_MASK); i < limit; i++){
+				if(segment.get(i) == '\n'){
+					return ((long)s << SEGMENT_SHIFT) + i + 1;
+				}
+			}
+			pos = ((long)s << SEGMENT_SHIFT) + limit;
+		}
+		return length;
+	}
+
+	private byte byteAt(long pos){
+		return segments[(int)(pos >>> SEGMENT_SHIFT)].get((int)(pos & SEGMENT_MASK));
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ *	Name: TokenLineTable.java
+ *	Purpose: Line number of every token plus a running count of line changes, so clone lengths are O(1)
+ *	Tables decoded from a token file are arrays, tables of a snapshot are views on its mapping, see InputSnapshot.
+ */
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Checksum;
+
+public class TokenLineTable {
+
+	private final IntBuffer lines; //source line of each token
+	private final IntBuffer changes; //changes[i] = number of tokens j in 1..i on a different line than token j-1
+
+	TokenLineTable(int[] lines){
+		int[] changes = new int[lines.length];
+		for(int i = 1; i < lines.length; i++){
+			changes[i] = changes[i-1] + (lines[i] != lines[i-1] ? 1 : 0);
+		}
+		this.lines = IntBuffer.wrap(lines);
+		this.changes = IntBuffer.wrap(changes);
+	}
+
+	//table whose changes were already counted, see read(ByteBuffer)
+	private TokenLineTable(IntBuffer lines, IntBuffer changes){
+		this.lines = lines;
+		this.changes = changes;
+	}
+
+	/**
+	 * Builds the table from the token file, decoding its ranges in parallel when given a pool
+	 * @param tokenFile - mapped token file
+	 * @param pool - threads decoding the file, null for one sequential pass
+	 * @return table of every token's line
+	 * @throws IOException
+	 */
+	static TokenLineTable read(TokenFile tokenFile, ForkJoinPool pool) throws IOException{
+		return new TokenLineTable(tokenFile.lineNumbers(pool));
+	}
+
+	/**
+	 * Builds the table of a token file, mapped when it is plain, streamed through InputFile when it is compressed
+	 * @param path - token file
+	 * @param pool - threads decoding the ranges of a plain file, null for one sequential pass
+	 * @return table of every token's line
+	 * @throws IOException
+	 */
+	static TokenLineTable read(String path, ForkJoinPool pool) throws IOException{
+		return read(path, pool, null);
+	}
+
+	/**
+	 * read(path, pool) that also hashes the file, from the mapping the lines are decoded from or as the stream is inflated
+	 * @param raw - gets every byte of the file, null for none
+	 */
+	static TokenLineTable read(String path, ForkJoinPool pool, Checksum raw) throws IOException{
+		if(!InputFile.compressed(path)){
+			TokenFile tokenFile = new TokenFile(path);
+			TokenLineTable table = read(tokenFile, pool);
+			if(raw != null){
+				tokenFile.update(raw);
+			}
+			return table;
+		}
+		InputStream in = InputFile.open(path, raw);
+		try{
+			return new TokenLineTable(TokenFile.lineNumbers(in));
+		} finally{
+			in.close();
+		}
+	}
+
+	//number of tokens
+	int size(){
+		return lines.limit();
+	}
+
+	//line number of a token
+	int lineOf(int token){
+		return lines.get(token);
+	}
+
+	/**
+	 * Counts the distinct consecutive lines covered by tokens bg to end-1
+	 * @param bg - first token
+	 * @param end - token after the last token
+	 * @return length of the clone in lines, 0 if the range is empty
+	 */
+	int distinctLines(int bg, int end){
+		if(end <= bg){
+			return 0;
+		}
+		return 1 + changes.get(end-1) - changes.get(bg);
+	}
+
+	//appends the table to a snapshot, see InputSnapshot
+	void write(DataOutputStream out) throws IOException{
+		out.writeInt(size());
+		InputSnapshot.write(out, lines, size());
+		InputSnapshot.write(out, changes, size());
+	}
+
+	//views on the table written by write, advancing the buffer
+	static TokenLineTable read(ByteBuffer in){
+		int n = in.getInt();
+		return new TokenLineTable(InputSnapshot.ints(in, n), InputSnapshot.ints(in, n));
+	}
+}
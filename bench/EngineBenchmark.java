@@ -0,0 +1,335 @@
+/**
+ *	Name: EngineBenchmark.java
+ *	Purpose: Times the Engine hot paths on generated inputs and reports the mean and spread of time and allocated bytes per operation.
+ *	Usage: EngineBenchmark [-pairs n,n..] [-cids n,n..] [-lines n,n..] [-overlap d,d..] [-warmup n] [-iterations n] [-out results.tsv] [-compare baseline.tsv]
+ */
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import org.apache.commons.cli.*;
+
+public class EngineBenchmark {
+
+	private static final String[] STAGES = {"getCloneLength", "snippetList", "createAttributes", "functionID", "chunkValues", "countCalls"};
+
+	private int[] pairCounts = {10000, 100000};
+	private int[] cidCounts = {100, 1000};
+	private int[] lineCounts = {100000, 1000000};
+	private float[] overlaps = {0f, .5f};
+	private int warmup = 5;
+	private int iterations = 10;
+	private String outFile = null;
+	private String compareFile = null;
+
+	private Options options = new Options();
+	private String usage = "EngineBenchmark [-pairs n,n..] [-cids n,n..] [-lines n,n..] [-overlap d,d..] [-warmup n] [-iterations n] [-out results.tsv] [-compare baseline.tsv]";
+
+	private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+	public static void main(String[] args) throws IOException {
+		EngineBenchmark benchmark = new EngineBenchmark();
+		try{
+			if(!benchmark.handleArguments(args)){
+				System.exit(0);
+			}
+		} catch(ParseException | NumberFormatException e){
+			System.out.println(e.getMessage() + ". Type -h for help.");
+			System.exit(1);
+		}
+		System.exit(benchmark.run() ? 0 : 1);
+	}
+
+	EngineBenchmark(){
+		initializeOptions();
+	}
+
+	/**
+	 * Reads the command line
+	 * @param args - command line arguments
+	 * @return true if the benchmark should run, false if help was printed instead
+	 * @throws ParseException
+	 */
+	boolean handleArguments(String[] args) throws ParseException{
+		CommandLine cmd = new DefaultParser().parse(options, args, false);
+		if(cmd.hasOption("h")){
+			new HelpFormatter().printHelp(usage, options, true);
+			return false;
+		}
+		if(cmd.getArgs().length > 0){
+			throw new ParseException("Unexpected argument " + cmd.getArgs()[0]);
+		}
+		if(cmd.hasOption("pairs")){
+			pairCounts = ints(cmd.getOptionValue("pairs"));
+		}
+		if(cmd.hasOption("cids")){
+			cidCounts = ints(cmd.getOptionValue("cids"));
+		}
+		if(cmd.hasOption("lines")){
+			lineCounts = ints(cmd.getOptionValue("lines"));
+		}
+		if(cmd.hasOption("overlap")){
+			overlaps = floats(cmd.getOptionValue("overlap"));
+		}
+		if(cmd.hasOption("warmup")){
+			warmup = Integer.parseInt(cmd.getOptionValue("warmup"));
+		}
+		if(cmd.hasOption("iterations")){
+			iterations = Integer.parseInt(cmd.getOptionValue("iterations"));
+			if(iterations < 2){
+				throw new ParseException("iterations must be at least 2 to give a spread");
+			}
+		}
+		if(cmd.hasOption("out")){
+			outFile = cmd.getOptionValue("out");
+		}
+		if(cmd.hasOption("compare")){
+			compareFile = cmd.getOptionValue("compare");
+		}
+		return true;
+	}
+
+	void initializeOptions(){
+		options.addOption("h", false, "display help");
+		options.addOption(Option.builder("pairs").argName("Counts").hasArg(true).desc("clone pairs of the generated inputs, default 10000,100000").build());
+		options.addOption(Option.builder("cids").argName("Counts").hasArg(true).desc("CIDs of the generated inputs, default 100,1000").build());
+		options.addOption(Option.builder("lines").argName("Counts").hasArg(true).desc("source lines of the generated inputs, default 100000,1000000").build());
+		options.addOption(Option.builder("overlap").argName("Shares").hasArg(true).desc("share of fragments nested in earlier ones, default 0,0.5").build());
+		options.addOption(Option.builder("warmup").argName("Count").hasArg(true).desc("untimed runs of each stage, default 5").build());
+		options.addOption(Option.builder("iterations").argName("Count").hasArg(true).desc("timed runs of each stage, the mean and spread are over these, default 10").build());
+		options.addOption(Option.builder("out").argName("File").hasArg(true).desc("write the results to a .tsv file").build());
+		options.addOption(Option.builder("compare").argName("File").hasArg(true).desc("flag stages slower or allocating more than a results file, beyond the spread of both").build());
+	}
+
+	/**
+	 * Runs every stage for every combination of input sizes
+	 * @return false if a stage got slower or allocates more than the baseline allows
+	 */
+	boolean run() throws IOException {
+		ArrayList<String> rows = new ArrayList<String>();
+		rows.add("stage\tpairs\tcids\tlines\toverlap\tns/op\tns spread\tbytes/op\tbytes spread");
+		for(int pairs : pairCounts){
+			for(int cids : cidCounts){
+				for(int lines : lineCounts){
+					for(float overlap : overlaps){
+						Input input = new Input(pairs, cids, lines, overlap, new Random(42));
+						for(String stage : STAGES){
+							long[] measured = measure(stage, input);
+							String sizes = stage + "\t" + pairs + "\t" + cids + "\t" + lines + "\t" + overlap;
+							System.out.println(sizes + "\t" + measured[0] + " +- " + measured[1] + " ns/op\t" + measured[2] + " +- " + measured[3] + " bytes/op");
+							rows.add(sizes + "\t" + measured[0] + "\t" + measured[1] + "\t" + measured[2] + "\t" + measured[3]);
+						}
+					}
+				}
+			}
+		}
+		if(outFile != null){
+			PrintWriter pw = new PrintWriter(new FileWriter(outFile));
+			for(String row : rows){
+				pw.println(row);
+			}
+			pw.close();
+		}
+		return compareFile == null || compare(rows);
+	}
+
+	/**
+	 * Times every iteration on its own, so the spread shows how much a measurement can be trusted
+	 * @return mean and standard deviation of the nanoseconds, then of the allocated bytes, per operation
+	 */
+	long[] measure(String stage, Input input){
+		for(int i = 0; i < warmup; i++){
+			invoke(stage, input);
+		}
+		long thread = Thread.currentThread().getId();
+		long[] time = new long[iterations];
+		long[] bytes = new long[iterations];
+		for(int i = 0; i < iterations; i++){
+			long allocated = threads.getThreadAllocatedBytes(thread);
+			long start = System.nanoTime();
+			invoke(stage, input);
+			time[i] = System.nanoTime() - start;
+			bytes[i] = threads.getThreadAllocatedBytes(thread) - allocated;
+		}
+		long[] measured = {mean(time), spread(time), mean(bytes), spread(bytes)};
+		return measured;
+	}
+
+	static long mean(long[] values){
+		double sum = 0;
+		for(long value : values){
+			sum += value;
+		}
+		return Math.round(sum / values.length);
+	}
+
+	//sample standard deviation
+	static long spread(long[] values){
+		double mean = mean(values);
+		double squares = 0;
+		for(long value : values){
+			squares += (value - mean) * (value - mean);
+		}
+		return Math.round(Math.sqrt(squares / (values.length - 1)));
+	}
+
+	private volatile Object sink; //keeps results alive so the JIT can't drop the work
+
+	void invoke(String stage, Input input){
+		Engine engine = input.engine;
+		if(stage.equals("getCloneLength")){
+			int total = 0;
+			for(int i = 0; i < input.pairs.size(); i++){
+				total += engine.getCloneLength(input.pairs.begin(i), input.pairs.end(i), input.tokenLines);
+			}
+			sink = total;
+		}
+		else if(stage.equals("snippetList")){
+			sink = engine.snippetList(input.pairs, input.tokenLines);
+		}
+		else if(stage.equals("createAttributes")){
+			sink = engine.createAttributes(input.lines, input.snippets);
+		}
+		else if(stage.equals("functionID")){
+			sink = engine.functionID(input.snippets, input.attributes, input.matrixCID);
+		}
+		else if(stage.equals("chunkValues")){
+			sink = engine.chunkValues(input.functionIDs);
+		}
+		else if(stage.equals("countCalls")){
+			sink = engine.countCalls(input.attributes, input.beginnings);
+		}
+	}
+
+	/**
+	 * Flags stages whose time or allocation got higher than the baseline file by more than the spread of both runs,
+	 * that is when mean - spread now is over mean + spread before
+	 */
+	boolean compare(ArrayList<String> rows) throws IOException {
+		BufferedReader br = new BufferedReader(new FileReader(compareFile));
+		ArrayList<String> baseline = new ArrayList<String>();
+		String strLine;
+		while((strLine = br.readLine()) != null){
+			baseline.add(strLine);
+		}
+		br.close();
+		if(baseline.isEmpty() || !baseline.get(0).equals(rows.get(0))){
+			throw new IOException(compareFile + " has no spread columns, run the baseline again with -out");
+		}
+		boolean ok = true;
+		for(int i = 1; i < rows.size(); i++){
+			String[] now = rows.get(i).split("\t");
+			for(int j = 1; j < baseline.size(); j++){
+				String[] before = baseline.get(j).split("\t");
+				if(!Arrays.equals(Arrays.copyOf(now, 5), Arrays.copyOf(before, 5))){
+					continue;
+				}
+				for(int k = 5; k <= 7; k += 2){
+					long low = Long.parseLong(now[k]) - Long.parseLong(now[k+1]);
+					long high = Long.parseLong(before[k]) + Long.parseLong(before[k+1]);
+					if(low > high){
+						String unit = k == 5 ? " ns/op" : " bytes/op";
+						System.out.println("REGRESSION\t" + String.join("\t", Arrays.copyOf(now, 5)) + "\t" + now[k] + " +- " + now[k+1] + unit
+								+ "\twas " + before[k] + " +- " + before[k+1] + unit);
+						ok = false;
+					}
+				}
+			}
+		}
+		return ok;
+	}
+
+	static int[] ints(String list){
+		String[] parts = list.split(",");
+		int[] values = new int[parts.length];
+		for(int i = 0; i < parts.length; i++){
+			values[i] = Integer.parseInt(parts[i].trim());
+		}
+		return values;
+	}
+
+	static float[] floats(String list){
+		String[] parts = list.split(",");
+		float[] values = new float[parts.length];
+		for(int i = 0; i < parts.length; i++){
+			values[i] = Float.parseFloat(parts[i].trim());
+		}
+		return values;
+	}
+
+	/**
+	 * Generated input: two tokens per source line, CIDs with POP fragments of one length each,
+	 * and a share of fragments (overlap) placed inside fragments of earlier CIDs to create nesting
+	 */
+	static class Input {
+
+		final Engine engine = new Engine();
+		final ClonePairs pairs = new ClonePairs();
+		final TokenLineTable tokenLines;
+		final int[][] matrixCID;
+		final int lines;
+		final ArrayList<int[]> snippets;
+		final LineAttributes attributes;
+		final int[] beginnings;
+		final FunctionIDs functionIDs;
+
+		Input(int pairCount, int cids, int lines, float overlap, Random random){
+			this.lines = lines;
+			int[] tokenLine = new int[lines * 2];
+			for(int i = 0; i < tokenLine.length; i++){
+				tokenLine[i] = i / 2 + 1;
+			}
+			tokenLines = new TokenLineTable(tokenLine);
+
+			int pop = Math.max(2, (int)Math.round(Math.sqrt((double)pairCount / cids)) + 1); //pairs per CID = pop x (pop - 1)
+			matrixCID = new int[cids][5];
+			ArrayList<int[]> placed = new ArrayList<int[]>(); //token ranges already used
+			for(int c = 0; c < cids; c++){
+				int length = 5 + random.nextInt(46); //lines
+				int[][] fragments = new int[pop][];
+				for(int f = 0; f < pop; f++){
+					int startLine;
+					if(!placed.isEmpty() && random.nextFloat() < overlap){ //nest inside an earlier fragment
+						int[] outer = placed.get(random.nextInt(placed.size()));
+						startLine = outer[0] / 2 + random.nextInt(Math.max(1, (outer[1] - outer[0]) / 2 - length + 1));
+					}
+					else{
+						startLine = random.nextInt(Math.max(1, lines - 2 * 50));
+					}
+					startLine = Math.min(startLine + f, lines - 51); //distinct start lines within the CID
+					int[] fragment = {startLine * 2, (startLine + length) * 2};
+					fragments[f] = fragment;
+					placed.add(fragment);
+				}
+				matrixCID[c][0] = c + 1;
+				matrixCID[c][1] = pop;
+				for(int a = 0; a < pop; a++){
+					for(int b = 0; b < pop; b++){
+						if(a != b){
+							pairs.add(c + 1, 1, fragments[a][0], fragments[a][1]);
+						}
+					}
+				}
+			}
+			snippets = engine.snippetList(pairs, tokenLines);
+			fixPOP();
+			attributes = engine.createAttributes(lines, snippets);
+			beginnings = engine.cloneBeginnings(pairs, tokenLines);
+			functionIDs = engine.functionID(snippets, attributes, matrixCID);
+		}
+
+		//fragments of a CID that landed on the same lines count once, as they do in snippetList
+		private void fixPOP(){
+			int row = -1;
+			for(int i = 0; i < snippets.size(); i++){
+				if(i == 0 || snippets.get(i)[0] != snippets.get(i-1)[0]){
+					row++;
+					matrixCID[row][1] = 0;
+				}
+				matrixCID[row][1]++;
+			}
+		}
+	}
+}
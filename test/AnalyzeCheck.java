@@ -0,0 +1,53 @@
+/**
+ *	Name: AnalyzeCheck.java
+ *	Purpose: Engine.analyze on the fixtures gives the numbers, FID lists and s-prime outlines of the baseline version,
+ *	on one thread or several, for both length bounds at once, and summed over the files of a project.
+ */
+
+import java.io.File;
+
+public class AnalyzeCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		String source = Checks.path(single, "a.java");
+		File[] cases = new File(Checks.path(single, "baseline")).listFiles();
+		Checks.check(cases != null && cases.length > 0, "no baseline runs in " + single);
+		for(File run : cases){
+			String flags = Checks.read(Checks.path(run.getPath(), "flags")).trim();
+			Checks.sameAsBaseline(run.getPath(), Checks.analyze(single, flags), source);
+			Checks.sameAsBaseline(run.getPath(), Checks.analyze(single, flags + " -threads 4"), source);
+		}
+
+		String largest = Checks.path(single, "baseline", "default");
+		String smallest = Checks.path(single, "baseline", "smallest");
+		AnalysisResult bounds = Checks.analyze(single, "-b");
+		Checks.Baseline.read(Checks.path(largest, "VerboseResults-a.java.tsv")).compare(bounds);
+		Checks.Baseline.read(Checks.path(smallest, "VerboseResults-a.java.tsv")).compare(bounds.smallest());
+
+		project(Checks.path(fixtures, "project"), "");
+		project(Checks.path(fixtures, "project"), "-threads 3");
+	}
+
+	//a project of files with disjoint CIDs gives the sums of the baseline runs of its files
+	private void project(String project, String flags) throws Exception{
+		AnalysisResult result = analyzeProject(project, flags);
+		Checks.Baseline expected = new Checks.Baseline();
+		StringBuilder functions = new StringBuilder();
+		for(int file = 0; file < 3; file++){
+			String baseline = Checks.path(project, "baseline", "f" + file);
+			expected.add(Checks.Baseline.read(Checks.path(baseline, "VerboseResults-a.java.tsv")));
+			functions.append(Checks.read(Checks.path(baseline, "Functions-a.java.txt")));
+		}
+		expected.compare(result);
+		Checks.equal("project FID list", functions.toString(), Checks.print(result, null));
+	}
+
+	//runs the project fixture as the command line would, token files are the source paths plus .ccfxprep
+	static AnalysisResult analyzeProject(String project, String flags) throws Exception{
+		String arguments = Checks.path(project, "prettyPrint.tsv") + " .ccfxprep " + Checks.path(project, "cloneM.tsv") + " "
+				+ Checks.path(project, "lineM.tsv") + " " + project + " -project " + flags;
+		Engine engine = Checks.engine(arguments.trim().split("\\s+"));
+		return Engine.analyze(engine.analysisInput(), engine.analysisOptions());
+	}
+}
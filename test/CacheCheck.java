@@ -0,0 +1,61 @@
+/**
+ *	Name: CacheCheck.java
+ *	Purpose: With -cache, the run writing the sidecar and the runs mapping it back give the baseline outputs.
+ *	A sidecar is still used when only the times of the inputs changed, and not when an input or the sidecar itself changed.
+ */
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+public class CacheCheck implements Checks.Check {
+
+	private static final String[] INPUTS = {"prettyPrint.tsv", "a.java.ccfxprep", "cloneM.tsv", "lineM.tsv"};
+
+	public void run(String fixtures) throws Exception{
+		Path copy = Files.createTempDirectory("ccm-cache");
+		try{
+			Checks.copy(Paths.get(fixtures, "single"), copy);
+			check(copy.toString(), Checks.path(fixtures, "single", "baseline"));
+		} finally{
+			Checks.delete(copy);
+		}
+	}
+
+	private void check(String single, String baseline) throws Exception{
+		String source = Checks.path(single, "a.java");
+		Path sidecar = Paths.get(single, "prettyPrint.tsv" + InputSnapshot.SUFFIX);
+		run("first run", single, "-cache", false, Checks.path(baseline, "default"));
+		Checks.check(Files.isRegularFile(sidecar), "no sidecar written next to prettyPrint.tsv");
+		run("sidecar", single, "-cache", true, Checks.path(baseline, "default"));
+		run("sidecar with -rnr 0.2", single, "-cache -rnr 0.2 -threads 3", true, Checks.path(baseline, "rnr0.2"));
+		run("sidecar with -sm", single, "-cache -sm", true, Checks.path(baseline, "smallest"));
+
+		//the hashes taken while parsing are those of the files
+		for(String input : INPUTS){
+			Path path = Paths.get(single, input);
+			Files.setLastModifiedTime(path, FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 60000));
+		}
+		run("inputs touched", single, "-cache", true, Checks.path(baseline, "default"));
+
+		//a blank line at the end of cloneM.tsv changes its size, not the analysis
+		Files.write(Paths.get(single, "cloneM.tsv"), "\n".getBytes("US-ASCII"), StandardOpenOption.APPEND);
+		run("cloneM.tsv changed", single, "-cache", false, Checks.path(baseline, "default"));
+		run("sidecar of the changed inputs", single, "-cache", true, Checks.path(baseline, "default"));
+
+		byte[] bytes = Files.readAllBytes(sidecar);
+		for(int length : new int[]{0, 7, 200, bytes.length / 2, bytes.length - 4}){
+			Files.write(sidecar, Arrays.copyOf(bytes, length));
+			run("sidecar cut to " + length + " bytes", single, "-cache", false, Checks.path(baseline, "default"));
+		}
+		Checks.sameAsBaseline(Checks.path(baseline, "default"), Checks.analyze(single, ""), source);
+	}
+
+	//runs with flags, the snapshot count tells whether the sidecar was mapped back
+	private void run(String what, String single, String flags, boolean mapped, String baseline) throws Exception{
+		AnalysisResult result = Checks.analyze(single, flags);
+		Checks.equal(what + ", sidecar used", mapped ? 1L : 0L, Checks.count(result, "snapshot"));
+		Checks.sameAsBaseline(baseline, result, Checks.path(single, "a.java"));
+	}
+}
@@ -0,0 +1,263 @@
+/**
+ *	Name: Checks.java
+ *	Purpose: Runs the fixture checks and compares the analysis with the outputs of the baseline version kept next to each fixture.
+ *	Usage: Checks [fixtures directory, default test/fixtures]
+ */
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class Checks {
+
+	//one check, throws AssertionError when the tree no longer gives the baseline output
+	interface Check {
+		void run(String fixtures) throws Exception;
+	}
+
+	public static void main(String[] args) {
+		String fixtures = args.length > 0 ? args[0] : "test" + File.separator + "fixtures";
+		Check[] checks = {new AnalyzeCheck(), new LineAttributesCheck(), new ContainmentGraphCheck(), new SweepCheck(), new ProjectStateCheck(), new CacheCheck(), new MetricFilterCheck(), new FieldCursorCheck(), new PairLinesCheck(), new ServerCheck(), new GzipCheck(), new OutputSinkCheck()};
+		int failed = 0;
+		for(Check check : checks){
+			String name = check.getClass().getSimpleName();
+			try{
+				check.run(fixtures);
+				System.out.println("ok\t" + name);
+			} catch(Exception | AssertionError e){
+				failed++;
+				System.out.println("FAIL\t" + name + "\t" + e);
+			}
+		}
+		System.out.println(checks.length - failed + "/" + checks.length + " checks passed");
+		System.exit(failed == 0 ? 0 : 1);
+	}
+
+	static void equal(String what, Object expected, Object actual){
+		if(expected == null ? actual != null : !expected.equals(actual)){
+			throw new AssertionError(what + ": expected " + expected + " but was " + actual);
+		}
+	}
+
+	static void check(boolean condition, String what){
+		if(!condition){
+			throw new AssertionError(what);
+		}
+	}
+
+	static String path(String... parts){
+		return String.join(File.separator, parts);
+	}
+
+	static String read(String path) throws IOException{
+		return new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+	}
+
+	//command line of a single file fixture, flags as typed, ex: "-rnr 0.2"
+	static String[] arguments(String fixture, String flags){
+		ArrayList<String> args = new ArrayList<String>(Arrays.asList(path(fixture, "prettyPrint.tsv"), path(fixture, "a.java.ccfxprep"),
+				path(fixture, "cloneM.tsv"), path(fixture, "lineM.tsv"), path(fixture, "a.java")));
+		for(String flag : flags.trim().split("\\s+")){
+			if(!flag.isEmpty()){
+				args.add(flag);
+			}
+		}
+		return args.toArray(new String[args.size()]);
+	}
+
+	//Engine of a command line, already parsed
+	static Engine engine(String[] args) throws Exception{
+		Engine engine = new Engine();
+		check(engine.handleArguments(args), "arguments refused: " + String.join(" ", args));
+		return engine;
+	}
+
+	//runs a single file fixture as the command line would
+	static AnalysisResult analyze(String fixture, String flags) throws Exception{
+		Engine engine = engine(arguments(fixture, flags));
+		return Engine.analyze(engine.analysisInput(), engine.analysisOptions());
+	}
+
+	/**
+	 * Compares a result with the outputs of the baseline version for the same input and flags
+	 * @param baseline - directory holding VerboseResults, Functions and sPrime of the baseline run
+	 * @param source - source code of the fixture, for the s-prime outline
+	 */
+	static void sameAsBaseline(String baseline, AnalysisResult result, String source) throws Exception{
+		Baseline expected = Baseline.read(path(baseline, "VerboseResults-a.java.tsv"));
+		expected.compare(result);
+		if(result.functionIDs() != null){
+			equal("FID list", read(path(baseline, "Functions-a.java.txt")), print(result, null));
+		}
+		if(result.attributes() != null){
+			equal("s-prime outline", read(path(baseline, "sPrime-a.java")), print(result, source));
+		}
+	}
+
+	/**
+	 * @param source - source code of the analysis, null for the FID list
+	 * @return the FID list, or the s-prime outline of source, as the output files would hold them
+	 */
+	static String print(AnalysisResult result, String source) throws IOException{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		OutputSink out = OutputSink.console(new PrintStream(bytes, true, "UTF-8"));
+		if(source == null){
+			new Engine().printFIDList(out, result.functionIDs(), result.matrixCID());
+		}
+		else{
+			new Engine().printSPrime(out, source, result);
+		}
+		out.close();
+		return bytes.toString("UTF-8");
+	}
+
+	//count of a stage of the run, -1 when no stage has it
+	static long count(AnalysisResult result, String name){
+		for(StageTimer.Stage stage : result.stages()){
+			Long count = stage.counts().get(name);
+			if(count != null){
+				return count;
+			}
+		}
+		return -1;
+	}
+
+	//copies the fixture without its baseline outputs
+	static void copy(final Path from, final Path to) throws IOException{
+		Files.walkFileTree(from, new SimpleFileVisitor<Path>(){
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException{
+				if(dir.getFileName().toString().equals("baseline")){
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				Files.createDirectories(to.resolve(from.relativize(dir).toString()));
+				return FileVisitResult.CONTINUE;
+			}
+
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException{
+				Files.copy(file, to.resolve(from.relativize(file).toString()));
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	static void delete(Path root) throws IOException{
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>(){
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException{
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException{
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * Snippets of a single file fixture, built as the analysis builds them
+	 */
+	static final class Fixture {
+
+		final int[][] matrixCID;
+		final ArrayList<int[]> snippets;
+		final int lines;
+
+		//keeps the CIDs of RNR over filterValue
+		Fixture(String single, float filterValue) throws IOException{
+			Engine engine = new Engine();
+			matrixCID = engine.matrixCID(CloneMetrics.read(path(single, "cloneM.tsv")).filterRNR(filterValue));
+			ClonePairs pairs = engine.filterClonePairs(engine.readClonePairs(path(single, "prettyPrint.tsv"), "clone_pairs {", "}"), matrixCID);
+			snippets = engine.snippetList(pairs, TokenLineTable.read(path(single, "a.java.ccfxprep"), null));
+			lines = engine.countLines(path(single, "a.java"));
+		}
+	}
+
+	/**
+	 * Numbers of a baseline VerboseResults file: the CID table, the sizes and the calculation
+	 */
+	static final class Baseline {
+
+		final ArrayList<int[]> rows = new ArrayList<int[]>(); //CID POP LENGTH CSIZE CHUNKS
+		int sloc, tcl, refactoredSize, calls, fidCalls, addBack;
+		float pr;
+
+		static Baseline read(String path) throws IOException{
+			Baseline baseline = new Baseline();
+			BufferedReader br = new BufferedReader(new FileReader(path));
+			try{
+				br.readLine(); //header
+				String line;
+				while((line = br.readLine()) != null && !line.startsWith("---")){
+					String[] fields = line.trim().split("\t");
+					int[] row = new int[5];
+					for(int i = 0; i < row.length; i++){
+						row[i] = Integer.parseInt(fields[i]);
+					}
+					baseline.rows.add(row);
+				}
+				while((line = br.readLine()) != null){
+					String[] fields = line.split("\t");
+					if(line.startsWith("Initial Size:")){
+						baseline.sloc = Integer.parseInt(fields[2]);
+					}
+					else if(line.startsWith("Total Clone Length:")){
+						baseline.tcl = Integer.parseInt(fields[1]);
+					}
+					else if(line.startsWith("Refactored Size:")){
+						baseline.refactoredSize = Integer.parseInt(fields[1]);
+					}
+					else if(line.startsWith("Percent Refactored:")){
+						baseline.pr = Float.parseFloat(fields[1]);
+					}
+					else if(line.startsWith("FC = ")){
+						baseline.calls = Integer.parseInt(line.substring(5).trim());
+					}
+					else if(line.startsWith("MD = ")){
+						baseline.fidCalls = Integer.parseInt(line.substring(5, line.indexOf(" x ")).trim());
+					}
+				}
+			} finally{
+				br.close();
+			}
+			for(int[] row : baseline.rows){
+				baseline.addBack += row[3];
+			}
+			return baseline;
+		}
+
+		//adds the numbers of another file, files of a project with disjoint CIDs add up
+		void add(Baseline file){
+			rows.addAll(file.rows);
+			sloc += file.sloc;
+			tcl += file.tcl;
+			refactoredSize += file.refactoredSize;
+			calls += file.calls;
+			fidCalls += file.fidCalls;
+			addBack += file.addBack;
+			pr = 100 - ((float)refactoredSize/(float)sloc)*100;
+		}
+
+		void compare(AnalysisResult result){
+			equal("|S|", sloc, result.sloc());
+			equal("TCL", tcl, result.tcl());
+			equal("|S'|", refactoredSize, result.refactoredSize());
+			equal("PR", pr, result.pr());
+			equal("FC", calls, result.calls());
+			equal("MD", fidCalls, result.fidCalls());
+			equal("AB", addBack, result.addBack());
+			int[][] matrix = result.matrixCID();
+			equal("CIDs", rows.size(), matrix.length);
+			for(int i = 0; i < matrix.length; i++){
+				equal("row of CID " + rows.get(i)[0], Arrays.toString(rows.get(i)), Arrays.toString(Arrays.copyOf(matrix[i], 5)));
+			}
+		}
+	}
+}
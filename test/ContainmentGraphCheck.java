@@ -0,0 +1,111 @@
+/**
+ *	Name: ContainmentGraphCheck.java
+ *	Purpose: The containment chains of ContainmentGraph are those of a pairwise comparison of every CID with every other,
+ *	on the single file fixture and on a chain of nested CIDs deeper than the call stack would allow.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class ContainmentGraphCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		float[] filterValues = {0, .2f, .5f, .7f};
+		for(float filterValue : filterValues){
+			Checks.Fixture fixture = new Checks.Fixture(single, filterValue);
+			sameChains(fixture.snippets, fixture.matrixCID, "RNR over " + filterValue);
+		}
+
+		//CIDs 2 and 3 cover the same lines, CID 4 is in file 1 so only CID 5 there contains it, CID 6 has no snippets
+		int[][] edges = {{1,1,20,20,0}, {2,2,9,8,0}, {3,2,9,8,0}, {2,12,15,4,0}, {3,12,15,4,0}, {4,3,5,3,1}, {5,1,8,8,1}};
+		int[][] matrixCID = {{1}, {2}, {3}, {4}, {5}, {6}};
+		sameChains(new ArrayList<int[]>(Arrays.asList(edges)), matrixCID, "edge snippets");
+
+		//CID k spans lines k to 2*N-k, so each contains all the CIDs after it
+		int nested = 20000;
+		ArrayList<int[]> chain = new ArrayList<int[]>();
+		int[][] chainCID = new int[nested][];
+		for(int k = 0; k < nested; k++){
+			chain.add(new int[]{k+1, k+1, 2*nested-k, 2*nested-2*k, 0});
+			chainCID[k] = new int[]{k+1};
+		}
+		ContainmentGraph graph = new ContainmentGraph(chain, chainCID, new CIDIndex(chainCID));
+		for(int k = 0; k < nested; k += 997){
+			Checks.equal("CIDs in nested CID " + (k+1), nested-k-1, graph.closure(k).cardinality());
+		}
+		Checks.equal("chain of the last nested CID", "-", graph.chain(nested-1));
+	}
+
+	private void sameChains(ArrayList<int[]> snippets, int[][] matrixCID, String what){
+		ContainmentGraph graph = new ContainmentGraph(snippets, matrixCID, new CIDIndex(matrixCID));
+		String[] expected = naiveChains(snippets, matrixCID);
+		Checks.equal(what + ", rows", expected.length, graph.size());
+		for(int row = 0; row < expected.length; row++){
+			Checks.equal(what + ", chain of CID " + matrixCID[row][0], expected[row], graph.chain(row));
+		}
+	}
+
+	/**
+	 * CID A contains CID B when every snippet of B lies inside a snippet of A in the same file.
+	 * CIDs containing each other keep only the edge from the lower row.
+	 */
+	private String[] naiveChains(ArrayList<int[]> snippets, int[][] matrixCID){
+		int rows = matrixCID.length;
+		boolean[][] contains = new boolean[rows][rows];
+		for(int a = 0; a < rows; a++){
+			for(int b = 0; b < rows; b++){
+				contains[a][b] = a != b && inside(snippets, matrixCID[b][0], matrixCID[a][0]);
+			}
+		}
+		boolean[][] reach = new boolean[rows][rows];
+		for(int a = 0; a < rows; a++){
+			for(int b = 0; b < rows; b++){
+				reach[a][b] = contains[a][b] && (!contains[b][a] || a < b);
+			}
+		}
+		for(int k = 0; k < rows; k++){
+			for(int a = 0; a < rows; a++){
+				for(int b = 0; b < rows; b++){
+					reach[a][b] |= reach[a][k] && reach[k][b];
+				}
+			}
+		}
+		String[] chains = new String[rows];
+		for(int a = 0; a < rows; a++){
+			int[] contained = new int[rows];
+			int n = 0;
+			for(int b = 0; b < rows; b++){
+				if(reach[a][b]){
+					contained[n++] = matrixCID[b][0];
+				}
+			}
+			Arrays.sort(contained, 0, n);
+			StringBuilder sb = new StringBuilder();
+			for(int k = 0; k < n; k++){
+				sb.append(k > 0 ? "." : "").append(contained[k]);
+			}
+			chains[a] = n == 0 ? "-" : sb.toString();
+		}
+		return chains;
+	}
+
+	//every snippet of inner lies inside a snippet of outer, false when inner has no snippets
+	private boolean inside(ArrayList<int[]> snippets, int inner, int outer){
+		boolean any = false;
+		for(int[] in : snippets){
+			if(in[0] != inner){
+				continue;
+			}
+			any = true;
+			boolean around = false;
+			for(int[] out : snippets){
+				around |= out[0] == outer && out[4] == in[4] && out[1] <= in[1] && in[2] <= out[2];
+			}
+			if(!around){
+				return false;
+			}
+		}
+		return any;
+	}
+}
@@ -0,0 +1,140 @@
+/**
+ *	Name: FieldCursorCheck.java
+ *	Purpose: FieldCursor reads the numbers of the fixture inputs as String.split and the JDK parsers do, takes a sign or a leading
+ *	'.' starting a float, and refuses bytes that are neither separators nor numbers with an IOException naming the line.
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+public class FieldCursorCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		String project = Checks.path(fixtures, "project");
+		for(String dir : new String[]{single, project}){
+			sameAsSplit(Checks.path(dir, "prettyPrint.tsv"), "[\t.-]", "clone_pairs {");
+			sameAsSplit(Checks.path(dir, "cloneM.tsv"), "\t", null);
+			sameAsSplit(Checks.path(dir, "lineM.tsv"), "\t", null);
+		}
+
+		FieldCursor cursor = cursor("12\t3.100-200\t4.5-6\r\n\t.5 -3 -0.25 1e-3 0.5E2\n-7\t 8 \nlast");
+		Checks.check(cursor.nextLine(), "first line");
+		int[] ints = new int[7];
+		for(int i = 0; i < ints.length; i++){
+			ints[i] = cursor.nextInt();
+		}
+		Checks.equal("separated integers", "[12, 3, 100, 200, 4, 5, 6]", Arrays.toString(ints));
+		Checks.check(!cursor.hasField(), "no field after the carriage return");
+		Checks.check(cursor.nextLine(), "second line");
+		float[] floats = new float[5];
+		for(int i = 0; i < floats.length; i++){
+			floats[i] = cursor.nextFloat();
+		}
+		Checks.equal("signed floats", "[0.5, -3.0, -0.25, 0.001, 50.0]", Arrays.toString(floats));
+		Checks.check(cursor.nextLine(), "third line");
+		Checks.equal("negative integer", -7, cursor.nextInt());
+		Checks.equal("integer between spaces", 8, cursor.nextInt());
+		Checks.check(!cursor.hasField(), "no field after trailing spaces");
+		Checks.check(cursor.nextLine() && cursor.lineEquals("last"), "last line without a line break");
+		Checks.check(!cursor.nextLine(), "end of the input");
+
+		//the fast path gives the float Float.parseFloat gives, near halfway points too
+		Random random = new Random(7);
+		StringBuilder text = new StringBuilder();
+		ArrayList<String> written = new ArrayList<String>();
+		for(int i = 0; i < 20000; i++){
+			String value;
+			switch(i % 4){
+				case 0: value = Float.toString(random.nextFloat()); break;
+				case 1: value = "-" + random.nextInt(100000) + "." + random.nextInt(1000); break;
+				case 2: value = "." + Math.abs(random.nextLong()); break;
+				default: value = new java.math.BigDecimal((double)Float.intBitsToFloat(random.nextInt() & 0x7EFFFFFF)).toPlainString(); break;
+			}
+			written.add(value);
+			text.append(value).append(i % 10 == 9 ? '\n' : '\t');
+		}
+		cursor = cursor(text.toString());
+		int n = 0;
+		while(cursor.nextLine()){
+			while(cursor.hasField()){
+				String value = written.get(n++);
+				Checks.equal("float " + value, Float.parseFloat(value), cursor.nextFloat());
+			}
+		}
+		Checks.equal("floats read", written.size(), n);
+
+		String[] malformed = {"12x", "a", "1:2", "3\t#4", "-", "1\t-x"};
+		for(String line : malformed){
+			refused(line, false);
+		}
+		refused(".5", true); //an integer field can't start with '.'
+		refused("-.", false);
+		refused("-.x", false);
+	}
+
+	//the numbers FieldCursor reads on every line after section (or after the header), against String.split
+	private void sameAsSplit(String path, String separators, String section) throws IOException{
+		String[] lines = Checks.read(path).split("\r?\n");
+		FieldCursor cursor = new FieldCursor(path);
+		try{
+			boolean in = section == null;
+			for(int l = 0; l < lines.length; l++){
+				Checks.check(cursor.nextLine(), path + ": line " + (l + 1) + " is missing");
+				if(section != null){
+					if(lines[l].equals(section) || lines[l].equals("}")){
+						in = lines[l].equals(section);
+						continue;
+					}
+				}
+				else if(l == 0){
+					continue; //header
+				}
+				if(!in){
+					continue;
+				}
+				for(String field : lines[l].trim().split(separators)){
+					String what = path + ": line " + (l + 1) + ", field " + field;
+					if(field.contains(".")){
+						Checks.equal(what, Float.parseFloat(field), cursor.nextFloat());
+					}
+					else{
+						Checks.equal(what, Integer.parseInt(field), cursor.nextInt());
+					}
+				}
+				Checks.check(!cursor.hasField(), path + ": more fields on line " + (l + 1));
+			}
+			Checks.check(!cursor.nextLine(), path + ": more lines than String.split found");
+		} finally{
+			cursor.close();
+		}
+	}
+
+	//the only field of a line is refused, the message holds the line
+	private void refused(String line, boolean integer) throws IOException{
+		FieldCursor cursor = cursor(line + "\n");
+		cursor.nextLine();
+		try{
+			if(integer){
+				cursor.nextInt();
+			}
+			else{
+				while(cursor.hasField()){
+					cursor.nextFloat();
+				}
+			}
+		} catch(IOException e){
+			Checks.check(e.getMessage().contains(line), "message without the line: " + e.getMessage());
+			return;
+		}
+		throw new AssertionError("line accepted: '" + line + "'");
+	}
+
+	private static FieldCursor cursor(String text){
+		return new FieldCursor(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ *	Name: GzipCheck.java
+ *	Purpose: Inputs compressed with gzip give the baseline outputs, found by their first bytes whatever their names,
+ *	for a single file on one thread or several, within a budget, and for the files of a project.
+ */
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+public class GzipCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		Path copy = Files.createTempDirectory("ccm-gzip");
+		try{
+			Checks.copy(Paths.get(fixtures, "single"), copy.resolve("single"));
+			Checks.copy(Paths.get(fixtures, "project"), copy.resolve("project"));
+			compress(copy);
+			single(copy.resolve("single").toString(), Checks.path(fixtures, "single", "baseline"));
+			String project = copy.resolve("project").toString();
+			for(String flags : new String[]{"", "-threads 3"}){
+				AnalysisResult plain = AnalyzeCheck.analyzeProject(Checks.path(fixtures, "project"), flags);
+				AnalysisResult compressed = AnalyzeCheck.analyzeProject(project, flags);
+				Checks.equal("project '" + flags + "', |S|", plain.sloc(), compressed.sloc());
+				Checks.equal("project '" + flags + "', TCL", plain.tcl(), compressed.tcl());
+				Checks.equal("project '" + flags + "', |S'|", plain.refactoredSize(), compressed.refactoredSize());
+				Checks.equal("project '" + flags + "', FC", plain.calls(), compressed.calls());
+				Checks.equal("project '" + flags + "', CIDs", Arrays.deepToString(plain.matrixCID()), Arrays.deepToString(compressed.matrixCID()));
+				Checks.equal("project '" + flags + "', FID list", Checks.print(plain, null), Checks.print(compressed, null));
+			}
+		} finally{
+			Checks.delete(copy);
+		}
+	}
+
+	//every baseline run of the single file fixture, on compressed inputs
+	private void single(String single, String baseline) throws Exception{
+		String source = Checks.path(single, "a.java");
+		File[] cases = new File(baseline).listFiles();
+		Checks.check(cases != null && cases.length > 0, "no baseline runs in " + baseline);
+		for(File run : cases){
+			String flags = Checks.read(Checks.path(run.getPath(), "flags")).trim();
+			Checks.sameAsBaseline(run.getPath(), Checks.analyze(single, flags), source);
+			Checks.sameAsBaseline(run.getPath(), Checks.analyze(single, flags + " -threads 4"), source);
+		}
+		Checks.sameAsBaseline(Checks.path(baseline, "default"), Checks.analyze(single, "-budget 1"), source);
+	}
+
+	//compresses every file under root in place, keeping its name
+	private void compress(Path root) throws IOException{
+		DirectoryStream<Path> files = Files.newDirectoryStream(root);
+		try{
+			for(Path file : files){
+				if(Files.isDirectory(file)){
+					compress(file);
+					continue;
+				}
+				byte[] bytes = Files.readAllBytes(file);
+				OutputStream out = new GZIPOutputStream(Files.newOutputStream(file));
+				try{
+					out.write(bytes);
+				} finally{
+					out.close();
+				}
+				Checks.check(InputFile.compressed(file.toString()), file + " was not compressed");
+			}
+		} finally{
+			files.close();
+		}
+	}
+}
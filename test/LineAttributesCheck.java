@@ -0,0 +1,64 @@
+/**
+ *	Name: LineAttributesCheck.java
+ *	Purpose: The runs of LineAttributes hold, line by line, the CIDs of the per-line lists the baseline built,
+ *	and their covered lines give the baseline TCL.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class LineAttributesCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		String[][] cases = {{"default", ".5"}, {"rnr0.2", ".2"}, {"rnr0.7", ".7"}};
+		for(String[] run : cases){
+			Checks.Fixture fixture = new Checks.Fixture(single, Float.parseFloat(run[1]));
+			LineAttributes attributes = new LineAttributes(fixture.lines, fixture.snippets);
+			Checks.Baseline baseline = Checks.Baseline.read(Checks.path(single, "baseline", run[0], "VerboseResults-a.java.tsv"));
+			Checks.equal("TCL of " + run[0], baseline.tcl, attributes.coveredLines());
+			samePerLine(attributes, fixture.lines, fixture.snippets, run[0]);
+		}
+
+		//one CID nested in itself, a single line snippet, a snippet past the end and an empty one
+		int[][] edges = {{1,1,5,5,0}, {1,3,8,6,0}, {2,5,5,1,0}, {3,18,25,8,0}, {4,10,9,0,0}, {5,1,20,20,0}};
+		ArrayList<int[]> snippets = new ArrayList<int[]>(Arrays.asList(edges));
+		for(int n = 0; n <= snippets.size(); n++){
+			ArrayList<int[]> some = new ArrayList<int[]>(snippets.subList(0, n));
+			samePerLine(new LineAttributes(20, some), 20, some, n + " edge snippets");
+		}
+	}
+
+	/**
+	 * Builds the per-line CID lists as the baseline did, one add per line of every snippet, and compares them with the runs
+	 */
+	private void samePerLine(LineAttributes attributes, int lines, ArrayList<int[]> snippets, String what){
+		ArrayList<ArrayList<Integer>> perLine = new ArrayList<ArrayList<Integer>>();
+		for(int line = 0; line < lines; line++){
+			perLine.add(new ArrayList<Integer>());
+		}
+		for(int[] snippet : snippets){
+			for(int line = snippet[1] - 1; line < snippet[2] && line < lines; line++){
+				perLine.get(line).add(snippet[0]);
+			}
+		}
+		int covered = 0;
+		for(int line = 0; line < lines; line++){
+			ArrayList<Integer> expected = perLine.get(line);
+			Collections.sort(expected);
+			int[] actual = new int[attributes.count(line)];
+			attributes.copyTo(line, actual, 0);
+			Checks.equal(what + ", CIDs of line " + (line + 1), expected.toString(), Arrays.toString(actual));
+			if(!expected.isEmpty()){
+				covered++;
+			}
+		}
+		Checks.equal(what + ", covered lines", covered, attributes.coveredLines());
+		Checks.equal(what + ", first run", 0, attributes.runStart(0));
+		Checks.equal(what + ", end of the last run", lines, attributes.runEnd(attributes.runs() - 1));
+		for(int r = 1; r < attributes.runs(); r++){
+			Checks.check(!attributes.runToString(r).equals(attributes.runToString(r - 1)), what + ", runs " + (r - 1) + " and " + r + " hold the same CIDs");
+		}
+	}
+}
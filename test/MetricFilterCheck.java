@@ -0,0 +1,104 @@
+/**
+ *	Name: MetricFilterCheck.java
+ *	Purpose: Compiled metric filters keep the CIDs a row by row evaluation of the same expression keeps, on cloneM.tsv read with String.split.
+ *	A filter equal to an RNR filter value gives the baseline run of that value, constants are read as floats like -rnr,
+ *	and malformed expressions are refused.
+ */
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MetricFilterCheck implements Checks.Check {
+
+	//the expression, evaluated on one row of cloneM.tsv
+	private static abstract class Expected {
+		final String expression;
+
+		Expected(String expression){
+			this.expression = expression;
+		}
+
+		abstract boolean keeps(Row m);
+	}
+
+	//one row of cloneM.tsv, metrics looked up by column name
+	private static final class Row {
+		final String[] header;
+		final String[] fields;
+
+		Row(String[] header, String[] fields){
+			this.header = header;
+			this.fields = fields;
+		}
+
+		int get(String name){
+			return Integer.parseInt(fields[Arrays.asList(header).indexOf(name)]);
+		}
+
+		float rnr(){
+			return Float.parseFloat(fields[Arrays.asList(header).indexOf("RNR")]);
+		}
+	}
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		Expected[] expressions = {
+			new Expected("RNR>0.5"){ boolean keeps(Row m){ return m.rnr() > .5f; } },
+			new Expected("rnr >= 0.3 && TKS < 20"){ boolean keeps(Row m){ return m.rnr() >= .3f && m.get("TKS") < 20; } },
+			new Expected("McCabe==10 || mccabe==2"){ boolean keeps(Row m){ return m.get("McCabe") == 10 || m.get("McCabe") == 2; } },
+			new Expected("!(TKS>=20) && POP!=2"){ boolean keeps(Row m){ return !(m.get("TKS") >= 20) && m.get("POP") != 2; } },
+			new Expected("LEN>10 || RNR<0.2 && CID>5"){ boolean keeps(Row m){ return m.get("LEN") > 10 || m.rnr() < .2f && m.get("CID") > 5; } },
+			new Expected("(LEN>10 || RNR<0.2) && CID>5"){ boolean keeps(Row m){ return (m.get("LEN") > 10 || m.rnr() < .2f) && m.get("CID") > 5; } },
+			new Expected("LOOP>0 || LEN<=12"){ boolean keeps(Row m){ return m.get("LOOP") > 0 || m.get("LEN") <= 12; } },
+			new Expected("!!(POP>2 && NIF<=1)"){ boolean keeps(Row m){ return m.get("POP") > 2 && m.get("NIF") <= 1; } },
+		};
+		List<String> lines = Arrays.asList(Checks.read(Checks.path(single, "cloneM.tsv")).split("\n"));
+		String[] header = lines.get(0).trim().split("\t");
+		CloneMetrics metrics = CloneMetrics.read(Checks.path(single, "cloneM.tsv"));
+		for(Expected expected : expressions){
+			ArrayList<Integer> kept = new ArrayList<Integer>();
+			for(String line : lines.subList(1, lines.size())){
+				Row row = new Row(header, line.trim().split("\t"));
+				if(expected.keeps(row)){
+					kept.add(row.get("CID"));
+				}
+			}
+			CloneMetrics filtered = metrics.filter(MetricFilter.compile(expected.expression));
+			ArrayList<Integer> actual = new ArrayList<Integer>();
+			for(int i = 0; i < filtered.size(); i++){
+				actual.add(filtered.cid(i));
+			}
+			Checks.equal("CIDs of " + expected.expression, kept, actual);
+		}
+
+		String source = Checks.path(single, "a.java");
+		Checks.sameAsBaseline(Checks.path(single, "baseline", "default"), Checks.analyze(single, "-filter RNR>0.5"), source);
+		Checks.sameAsBaseline(Checks.path(single, "baseline", "rnr0.2"), Checks.analyze(single, "-filter RNR>0.2"), source);
+		Checks.sameAsBaseline(Checks.path(single, "baseline", "rnr0.7"), Checks.analyze(single, "-rnr 0.7 -filter RNR>0.2"), source);
+
+		//constants are read as floats, like -rnr reads its value, and not rounded to a double first
+		String value = "1.00000017881393432617187499"; //1.0000001 as a float, 1.0000002 through a double
+		File tricky = File.createTempFile("cloneM", ".tsv");
+		try{
+			Files.write(tricky.toPath(), ("CID\tLEN\tPOP\tNIF\tRAD\tRNR\n1\t5\t2\t1\t0\t1.0000001\n2\t5\t2\t1\t0\t1.0000002\n").getBytes("US-ASCII"));
+			CloneMetrics rows = CloneMetrics.read(tricky.getPath());
+			Checks.equal("rows over -filter RNR>" + value, rows.filterRNR(Float.parseFloat(value)).size(), rows.filter(MetricFilter.compile("RNR>" + value)).size());
+			Checks.equal("rows over RNR>" + value + " and -rnr " + value, 1, rows.filter(MetricFilter.both(MetricFilter.rnrAbove(Float.parseFloat(value)), MetricFilter.compile("RNR>" + value))).size());
+		} finally{
+			tricky.delete();
+		}
+
+		String[] malformed = {"", "RNR", "RNR>", "RNR>>1", "FOO>1", "RNR>0.5 &&", "(RNR>0.5", "RNR>0.5)", "RNR=0.5", "TKS>1e"};
+		for(String expression : malformed){
+			try{
+				MetricFilter.compile(expression);
+				throw new AssertionError("expression accepted: '" + expression + "'");
+			} catch(IllegalArgumentException e){
+				//refused, as it should be
+			}
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/**
+ *	Name: OutputSinkCheck.java
+ *	Purpose: File and console sinks write the FID list and s-prime outline of the baseline, the console sink prints
+ *	block by block as the output is written and leaves the console open, and -async is no longer an option.
+ */
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.cli.ParseException;
+
+public class OutputSinkCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		String baseline = Checks.path(single, "baseline", "default");
+		String source = Checks.path(single, "a.java");
+		AnalysisResult result = Checks.analyze(single, "");
+		Path file = Files.createTempFile("ccm-sink", ".txt");
+		try{
+			OutputSink out = OutputSink.file(file.toString());
+			new Engine().printFIDList(out, result.functionIDs(), result.matrixCID());
+			out.close();
+			Checks.equal("FID list of a file sink", Checks.read(Checks.path(baseline, "Functions-a.java.txt")), Checks.read(file.toString()));
+			out = OutputSink.file(file.toString());
+			new Engine().printSPrime(out, source, result);
+			out.close();
+			Checks.equal("s-prime outline of a file sink", Checks.read(Checks.path(baseline, "sPrime-a.java")), Checks.read(file.toString()));
+		} finally{
+			Files.delete(file);
+		}
+
+		//three buffers of output reach the console before the sink is closed
+		final boolean[] closed = new boolean[1];
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream console = new PrintStream(bytes, false, "UTF-8"){
+			public void close(){
+				closed[0] = true;
+				super.close();
+			}
+		};
+		OutputSink out = OutputSink.console(console);
+		StringBuilder expected = new StringBuilder();
+		for(int i = 0; expected.length() < 3 * OutputSink.BUFFER_SIZE; i++){
+			out.println("line " + i);
+			expected.append("line " + i).append(System.lineSeparator());
+		}
+		Checks.check(bytes.size() >= 2 * OutputSink.BUFFER_SIZE, "the console sink held back " + expected.length() + " characters, printed " + bytes.size());
+		out.close();
+		Checks.equal("console output", expected.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+		Checks.check(!closed[0], "closing the sink closed the console");
+
+		boolean refused = false;
+		try{
+			new Engine().handleArguments(Checks.arguments(single, "-async"));
+		} catch(ParseException e){
+			refused = true;
+		}
+		Checks.check(refused, "-async was accepted");
+	}
+}
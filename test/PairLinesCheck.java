@@ -0,0 +1,59 @@
+/**
+ *	Name: PairLinesCheck.java
+ *	Purpose: The merge-scan of PairLines gives the lines and lengths the token line table gives, whether the positions fit
+ *	in the budget, spill to a few runs or spill to more runs than one merge takes, and -budget gives the baseline outputs.
+ *	A budget that can't hold the lines of every pair is refused.
+ */
+
+import java.io.IOException;
+import java.util.Random;
+
+public class PairLinesCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		String tokenFile = Checks.path(single, "a.java.ccfxprep");
+		TokenLineTable tokenLines = TokenLineTable.read(tokenFile, null);
+		int tokens = tokenLines.size();
+		Random random = new Random(11);
+		ClonePairs pairs = new ClonePairs();
+		for(int i = 0; i < 5000; i++){
+			int begin = 1 + random.nextInt(tokens - 2);
+			int end = i % 50 == 0 ? begin : Math.min(tokens, begin + random.nextInt(200)); //some empty pairs
+			pairs.add(1 + random.nextInt(20), 1, begin, end);
+		}
+
+		Engine engine = new Engine();
+		long smallest = 24L * pairs.size() + 6 * 4096; //lines of the pairs, then records and three run buffers
+		long[] budgets = {smallest, 200000, 1L << 30}; //many runs merged in passes, a few runs, no run
+		int[] runs = new int[budgets.length];
+		for(int b = 0; b < budgets.length; b++){
+			PairLines pairLines = PairLines.scan(tokenFile, pairs, budgets[b]);
+			runs[b] = pairLines.runs();
+			for(int i = 0; i < pairs.size(); i++){
+				int begin = pairs.begin(i), end = pairs.end(i);
+				String what = "budget " + budgets[b] + ", pair " + begin + "-" + end;
+				Checks.equal(what + ", length", engine.getCloneLength(begin, end, tokenLines), pairLines.length(i));
+				Checks.equal(what + ", first line", tokenLines.lineOf(begin), pairLines.first(i));
+				Checks.equal(what + ", second line", tokenLines.lineOf(begin + 1), pairLines.second(i));
+				if(end > begin){
+					Checks.equal(what + ", last line", tokenLines.lineOf(end - 1), pairLines.last(i));
+				}
+			}
+		}
+		Checks.check(runs[0] > 3, "budget " + smallest + " spilled only " + runs[0] + " runs, one merge takes them all");
+		boolean refused = false;
+		try{
+			PairLines.scan(tokenFile, pairs, smallest - 1);
+		} catch(IOException e){
+			refused = e.getMessage().contains("5000 clone pairs");
+		}
+		Checks.check(refused, "a budget too small for the lines of the pairs was not refused");
+		Checks.check(runs[1] > 0 && runs[1] < runs[0], "budget 200000 spilled " + runs[1] + " runs");
+		Checks.equal("runs within the budget", 0, runs[2]);
+
+		String source = Checks.path(single, "a.java");
+		Checks.sameAsBaseline(Checks.path(single, "baseline", "default"), Checks.analyze(single, "-budget 1"), source);
+		Checks.sameAsBaseline(Checks.path(single, "baseline", "rnr0.2"), Checks.analyze(single, "-budget 1 -rnr 0.2 -threads 4"), source);
+	}
+}
@@ -0,0 +1,126 @@
+/**
+ *	Name: ProjectStateCheck.java
+ *	Purpose: A project analysis keeping a state gives the numbers of a full analysis, on its first run, on a run over
+ *	unchanged inputs, and after a CID is gone, every CID is numbered again and a source file grew, reusing what it can.
+ *	Pairs the state has no lines for make their files read again, a cut or corrupt state is a full analysis.
+ */
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+
+public class ProjectStateCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String[] flags = {"", "-b -threads 3"};
+		for(String flag : flags){
+			Path project = Files.createTempDirectory("ccm-state");
+			try{
+				Checks.copy(Paths.get(fixtures, "project"), project);
+				check(project.toString(), flag);
+			} finally{
+				Checks.delete(project);
+			}
+		}
+	}
+
+	private void check(String project, String flags) throws Exception{
+		String state = "-state " + Checks.path(project, "ccm.state") + " " + flags;
+		String run = "flags '" + flags + "'";
+		AnalysisResult full = AnalyzeCheck.analyzeProject(project, flags);
+		same(run + ", first run", full, AnalyzeCheck.analyzeProject(project, state));
+		AnalysisResult again = AnalyzeCheck.analyzeProject(project, state);
+		same(run + ", unchanged inputs", full, again);
+		Checks.equal(run + ", files reused", 3L, Checks.count(again, "filesReused"));
+		Checks.equal(run + ", files changed", 0L, Checks.count(again, "filesChanged"));
+		Checks.equal(run + ", CIDs recomputed", 0L, Checks.count(again, "cidsRecomputed"));
+
+		//CID 202 of f1 is gone, CIDs are numbered again from 1201 and f2/a.java gets one more line
+		rewrite(Checks.path(project, "prettyPrint.tsv"), true);
+		rewrite(Checks.path(project, "cloneM.tsv"), false);
+		Files.write(Paths.get(project, "f2", "a.java"), "//one more line\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+		full = AnalyzeCheck.analyzeProject(project, flags);
+		AnalysisResult changed = AnalyzeCheck.analyzeProject(project, state);
+		same(run + ", changed inputs", full, changed);
+		long recomputed = 0; //CIDs of f1 and f2, their files' snippets changed
+		for(int[] row : full.matrixCID()){
+			if(row[0] >= 1200){
+				recomputed++;
+			}
+		}
+		Checks.equal(run + ", files reused after the change", 2L, Checks.count(changed, "filesReused"));
+		Checks.equal(run + ", files changed after the change", 2L, Checks.count(changed, "filesChanged"));
+		Checks.equal(run + ", CIDs recomputed after the change", recomputed, Checks.count(changed, "cidsRecomputed"));
+		Checks.equal(run + ", files reread after the change", 0L, Checks.count(changed, "filesReread"));
+
+		//-rnr 0 keeps pairs the state has no lines for, the token files of the unchanged files are read after all
+		full = AnalyzeCheck.analyzeProject(project, "-rnr 0 " + flags);
+		changed = AnalyzeCheck.analyzeProject(project, "-rnr 0 " + state);
+		same(run + ", more pairs", full, changed);
+		Checks.check(Checks.count(changed, "filesReread") > 0, run + ", no file reread for pairs missing from the state");
+
+		//a cut or corrupt state is a full analysis
+		Path file = Paths.get(project, "ccm.state");
+		byte[] bytes = Files.readAllBytes(file);
+		int pathLength = ByteBuffer.wrap(bytes, 16, 4).getInt();
+		int[][] corrupt = {{8, Integer.MAX_VALUE}, {12, Integer.MAX_VALUE}, {20 + pathLength + 8 * 5 + 4 * 3, 1 << 30}, {16, -1}}; //offset and int put there
+		for(int[] at : corrupt){
+			byte[] bad = bytes.clone();
+			ByteBuffer.wrap(bad).putInt(at[0], at[1]);
+			Files.write(file, bad);
+			changed = AnalyzeCheck.analyzeProject(project, "-rnr 0 " + state);
+			same(run + ", " + at[1] + " at byte " + at[0] + " of the state", full, changed);
+			Checks.equal(run + ", files reused with a corrupt state", 0L, Checks.count(changed, "filesReused"));
+		}
+		for(int length : new int[]{0, 7, 16, bytes.length / 2, bytes.length - 4}){
+			Files.write(file, Arrays.copyOf(bytes, length));
+			changed = AnalyzeCheck.analyzeProject(project, "-rnr 0 " + state);
+			same(run + ", state cut to " + length + " bytes", full, changed);
+			Checks.equal(run + ", files reused with a cut state", 0L, Checks.count(changed, "filesReused"));
+		}
+	}
+
+	//same numbers and CID rows, for both length bounds when there are two
+	private void same(String what, AnalysisResult expected, AnalysisResult actual){
+		Checks.equal(what + ", |S|", expected.sloc(), actual.sloc());
+		Checks.equal(what + ", TCL", expected.tcl(), actual.tcl());
+		Checks.equal(what + ", |S'|", expected.refactoredSize(), actual.refactoredSize());
+		Checks.equal(what + ", PR", expected.pr(), actual.pr());
+		Checks.equal(what + ", FC", expected.calls(), actual.calls());
+		Checks.equal(what + ", MD", expected.fidCalls(), actual.fidCalls());
+		Checks.equal(what + ", AB", expected.addBack(), actual.addBack());
+		Checks.equal(what + ", CIDs", expected.matrixCID().length, actual.matrixCID().length);
+		for(int i = 0; i < expected.matrixCID().length; i++){
+			Checks.equal(what + ", row " + i, Arrays.toString(Arrays.copyOf(expected.matrixCID()[i], 5)), Arrays.toString(Arrays.copyOf(actual.matrixCID()[i], 5)));
+		}
+		Checks.equal(what + ", bounds", expected.smallest() == null, actual.smallest() == null);
+		if(expected.smallest() != null){
+			same(what + ", smallest", expected.smallest(), actual.smallest());
+		}
+	}
+
+	/**
+	 * Drops CID 202, which the RNR filter keeps, and adds 1000 to every other CID
+	 * @param pairs - true for the clone_pairs section of prettyPrint.tsv, false for the rows of cloneM.tsv
+	 */
+	private void rewrite(String path, boolean pairs) throws IOException{
+		StringBuilder sb = new StringBuilder();
+		boolean inPairs = false;
+		for(String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8)){
+			boolean row = pairs ? inPairs && !line.equals("}") : !line.startsWith("CID");
+			inPairs = pairs && (line.equals("clone_pairs {") || inPairs && !line.equals("}"));
+			if(row){
+				int tab = line.indexOf('\t');
+				int CID = Integer.parseInt(line.substring(0, tab));
+				if(CID == 202){
+					continue;
+				}
+				line = (CID + 1000) + line.substring(tab);
+			}
+			sb.append(line).append('\n');
+		}
+		Files.write(Paths.get(path), sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
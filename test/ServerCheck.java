@@ -0,0 +1,120 @@
+/**
+ *	Name: ServerCheck.java
+ *	Purpose: An AnalysisServer answers POST /analyze with what the command line prints for the same arguments,
+ *	keeps the token lines between requests, answers bad arguments with 400 and stops on POST /shutdown.
+ */
+
+import java.io.*;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+public class ServerCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		AnalysisServer server = new AnalysisServer(0, 64L << 20);
+		String url = "http://127.0.0.1:" + server.port();
+		try{
+			for(String flags : new String[]{"-v", "-v -rnr 0.2 -threads 3", "-v -sm"}){
+				String[] arguments = Checks.arguments(single, flags);
+				Response response = post(url + "/analyze", String.join("\n", arguments));
+				Checks.equal("status of '" + flags + "'", 200, response.status);
+				Checks.equal("response to '" + flags + "'", printed(arguments), response.body);
+			}
+			int refactoredSize = Checks.Baseline.read(Checks.path(single, "baseline", "default", "VerboseResults-a.java.tsv")).refactoredSize;
+			Response response = post(url + "/analyze", String.join("\n", Checks.arguments(single, "-v")));
+			Checks.check(response.body.contains("Refactored Size:\t" + refactoredSize), "|S'| of the baseline not in " + response.body);
+
+			Checks.equal("-threads abc", 400, post(url + "/analyze", String.join("\n", Checks.arguments(single, "-threads abc"))).status);
+			Checks.equal("-o", 400, post(url + "/analyze", String.join("\n", Checks.arguments(single, "-o out"))).status);
+			Checks.equal("-serve", 400, post(url + "/analyze", String.join("\n", Checks.arguments(single, "-serve 0"))).status);
+			Checks.equal("missing input", 500, post(url + "/analyze", String.join("\n", Checks.arguments(Checks.path(single, "none"), ""))).status);
+			Response help = post(url + "/analyze", "-h");
+			Checks.equal("-h", 200, help.status);
+			Checks.check(help.body.contains("-budget"), "-h answered without the options: " + help.body);
+			Checks.equal("GET /analyze", 405, request("GET", url + "/analyze", null).status);
+
+			String stats = request("GET", url + "/stats", null).body;
+			Checks.check(stats.contains("\"requests\": 9,"), "requests not counted: " + stats);
+			Checks.check(stats.contains("\"failures\": 4,"), "failures not counted: " + stats);
+			Checks.check(stats.contains("\"hits\": 3,"), "token lines not kept between requests: " + stats);
+
+			Checks.equal("POST /shutdown", 200, post(url + "/shutdown", "").status);
+			boolean stopped = false;
+			for(int tries = 0; tries < 100 && !stopped; tries++){
+				try{
+					request("GET", url + "/stats", null);
+					Thread.sleep(50);
+				} catch(ConnectException e){
+					stopped = true;
+				}
+			}
+			Checks.check(stopped, "the server still answers after POST /shutdown");
+		} finally{
+			server.stop();
+		}
+	}
+
+	//what the command line prints for the arguments, without the execution time
+	private static String printed(String[] arguments) throws Exception{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream console = new PrintStream(bytes, true, "UTF-8");
+		Engine engine = new Engine();
+		engine.console(console);
+		Checks.check(engine.handleArguments(arguments), "arguments refused: " + String.join(" ", arguments));
+		AnalysisInput input = engine.analysisInput();
+		engine.mainOutput(Engine.analyze(input, engine.analysisOptions()), input.sourceCode());
+		console.flush();
+		return bytes.toString("UTF-8");
+	}
+
+	private static final class Response {
+
+		final int status;
+		final String body;
+
+		Response(int status, String body){
+			this.status = status;
+			this.body = body;
+		}
+	}
+
+	private static Response post(String url, String body) throws IOException{
+		return request("POST", url, body);
+	}
+
+	//status and body of a request, the body of an error status too
+	private static Response request(String method, String url, String body) throws IOException{
+		HttpURLConnection connection = (HttpURLConnection)new URL(url).openConnection();
+		try{
+			connection.setRequestMethod(method);
+			if(body != null){
+				connection.setDoOutput(true);
+				OutputStream out = connection.getOutputStream();
+				try{
+					out.write(body.getBytes(StandardCharsets.UTF_8));
+				} finally{
+					out.close();
+				}
+			}
+			int status = connection.getResponseCode();
+			InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			if(in != null){
+				try{
+					byte[] buffer = new byte[8192];
+					for(int n = in.read(buffer); n >= 0; n = in.read(buffer)){
+						bytes.write(buffer, 0, n);
+					}
+				} finally{
+					in.close();
+				}
+			}
+			return new Response(status, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+		} finally{
+			connection.disconnect();
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/**
+ *	Name: SweepCheck.java
+ *	Purpose: Every threshold of an RNR sweep gives the numbers of the baseline run with -rnr of that value,
+ *	whatever the order of the thresholds and on one thread or several. -b is refused with -sweep.
+ */
+
+import org.apache.commons.cli.ParseException;
+
+public class SweepCheck implements Checks.Check {
+
+	public void run(String fixtures) throws Exception{
+		String single = Checks.path(fixtures, "single");
+		String[] cases = {"rnr0.7", "rnr0.2", "default", "rnr0.2"};
+		float[] thresholds = {.7f, .2f, .5f, .2f};
+		String[] flags = {"-sweep 0.5", "-sweep 0.5 -threads 4"};
+		for(String flag : flags){
+			Engine engine = Checks.engine(Checks.arguments(single, flag));
+			RNRSweep sweep = Engine.sweepRNR(engine.analysisInput(), engine.analysisOptions(), thresholds);
+			Checks.equal("thresholds", thresholds.length, sweep.size());
+			for(int i = 0; i < thresholds.length; i++){
+				String what = flag + ", RNR " + thresholds[i] + ", ";
+				Checks.Baseline baseline = Checks.Baseline.read(Checks.path(single, "baseline", cases[i], "VerboseResults-a.java.tsv"));
+				Checks.equal(what + "|S|", baseline.sloc, sweep.sloc());
+				Checks.equal(what + "CIDs", baseline.rows.size(), sweep.cids(i));
+				Checks.equal(what + "TCL", baseline.tcl, sweep.tcl(i));
+				Checks.equal(what + "|S'|", baseline.refactoredSize, sweep.refactoredSize(i));
+				Checks.equal(what + "PR", baseline.pr, sweep.pr(i));
+				Checks.equal(what + "FC", baseline.calls, sweep.calls(i));
+				Checks.equal(what + "MD", baseline.fidCalls, sweep.fidCalls(i));
+				Checks.equal(what + "AB", baseline.addBack, sweep.addBack(i));
+			}
+		}
+
+		try{ //a sweep has no bounds to report
+			new Engine().handleArguments(Checks.arguments(single, "-sweep 0.5 -b"));
+			throw new AssertionError("-sweep with -b accepted");
+		} catch(ParseException e){
+			//refused, as it should be
+		}
+	}
+}
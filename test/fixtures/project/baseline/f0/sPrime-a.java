@@ -0,0 +1,143 @@
+//Insert Calling Statement Line: 0   	[109]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 15
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 16
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 17
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 18
+xxxxxxxx line 19
+xxxxxxxxxxxxxxxxxxxx line 20
+xxxxxxxxxxxxxxxxxxxx line 21
+xxxxxxxxxxxxxxxxx line 22
+//Insert Calling Statement Line: 23   	[107]
+//Insert Calling Statement Line: 23   	[107]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 30
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 31
+xx line 32
+xxxxxxx line 33
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 34
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 35
+xxxxxxxxxxxxxxxxx line 36
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 37
+//Insert Calling Statement Line: 38   	[101]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 42
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 43
+xxxxxxxxxxxxxxxxxxxxxxxxx line 44
+//Insert Calling Statement Line: 45   	[107]
+//Insert Calling Statement Line: 50   	[107, 107]
+//Insert Calling Statement Line: 51   	[107]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 57
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 58
+x line 59
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 60
+xxxxxxxxxxxxxxxxxxxxxxxx line 61
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 62
+xxxxxxxxxxxxxxxxxxxxxxxxx line 63
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 64
+xx line 65
+//Insert Calling Statement Line: 66   	[102]
+//Insert Calling Statement Line: 66   	[102]
+//Insert Calling Statement Line: 72   	[102, 109]
+//Insert Calling Statement Line: 73   	[102, 109]
+//Insert Calling Statement Line: 75   	[102, 107, 109]
+//Insert Calling Statement Line: 79   	[107, 109]
+//Insert Calling Statement Line: 82   	[107, 109, 109]
+//Insert Calling Statement Line: 83   	[109, 109]
+//Insert Calling Statement Line: 86   	[109]
+//Insert Calling Statement Line: 88   	[102, 109]
+//Insert Calling Statement Line: 88   	[102, 109]
+//Insert Calling Statement Line: 90   	[102, 102, 109]
+//Insert Calling Statement Line: 90   	[102, 102, 109]
+//Insert Calling Statement Line: 94   	[102, 102]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 100
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 101
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 102
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 103
+xxxxxxx line 104
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 105
+xxxxxx line 106
+xxxxx line 107
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 108
+//Insert Calling Statement Line: 109   	[101]
+//Insert Calling Statement Line: 109   	[101]
+xxxxx line 114
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 115
+//Insert Calling Statement Line: 116   	[101]
+
+xxxxxxxxxxxx line 120
+
+xxxxx line 122
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 123
+//Insert Calling Statement Line: 124   	[101]
+xxxxxxxxxxxxxxxxxxxxxxxxx line 127
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 128
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 129
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 131
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 132
+xxxxxxxxxxxxxxxxxxx line 133
+xxxxxxxx line 134
+xxxxxxxxxxxxxxxxxx line 135
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 137
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 138
+xxxxxxxxxxxxxxxxxxxxxxx line 139
+xxxxx line 140
+
+xxxxxxxxxxxx line 142
+xxxxxxxxxxxxxxxxxxxxxxxx line 143
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 144
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 145
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 146
+xxxxxxxxxxxx line 147
+xxxxxxxxxxxxxxxxxxxxxxxx line 148
+xxxxxxxxxxxxxxxxxxxxxx line 149
+xx line 150
+xxxxxx line 151
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 152
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 153
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 154
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 155
+xxxxxxxxxx line 156
+xxxxxxxxxxxxxxx line 157
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 158
+xxxxxxxx line 159
+xxx line 160
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 161
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 162
+
+xxxxxxx line 164
+xxxxxxxxxxxxxxxxx line 165
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 166
+xxxxxxx line 167
+xxxxxxxxxxxxxxxxxxxxxx line 168
+xxxxxxxxxxxxxx line 169
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 170
+xxxx line 171
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 172
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 173
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 174
+xxxxxxxxxxxxx line 175
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 176
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 177
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 178
+
+xxxxxxxxxxxxxx line 180
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 181
+xxxxxxxxxxxxxxxxxxxxx line 182
+xx line 183
+xxx line 184
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 185
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 186
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 187
+xxxxxxx line 188
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 189
+xxxxxxxxx line 190
+xxxxxx line 191
+
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 193
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 194
+xxxx line 195
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 196
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 198
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 199
+xxxxxxxxxxxxxxxxx line 200
@@ -0,0 +1,133 @@
+
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 2
+xxx line 3
+xxxxxxxx line 4
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 5
+xxxxxxxxxx line 6
+xxx line 7
+xxxxxxxxx line 8
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 9
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 10
+//Insert Calling Statement Line: 11   	[202]
+//Insert Calling Statement Line: 13   	[202]
+//Insert Calling Statement Line: 28   	[202]
+//Insert Calling Statement Line: 31   	[202, 202]
+//Insert Calling Statement Line: 44   	[202]
+xxxxxxxxxxxxx line 45
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 46
+xxxx line 47
+xxxxxxxx line 48
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 49
+xxxxxxxxxxxxx line 50
+xxxxxxxxxxx line 51
+xxxxxxxxxx line 52
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 53
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 54
+xxxxxxxxxxxxxxxxxxxxxxxx line 55
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 56
+xxx line 57
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 58
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 59
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 60
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 61
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 63
+x line 64
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 66
+xxx line 67
+//Insert Calling Statement Line: 68   	[213]
+//Insert Calling Statement Line: 69   	[213, 213]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 82
+xxx line 83
+xxxxxxxx line 84
+xxxxxxxxxxxxxx line 85
+xxxxxxxxxxxxxxxxxxxxxxxxx line 86
+xxxxxxxxxxxxxx line 87
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 88
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 89
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 90
+xxx line 91
+
+xxxxxxxxxxxxxxxxxx line 93
+xxxxxxxxxxxxx line 94
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 95
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 96
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 98
+//Insert Calling Statement Line: 99   	[210]
+xxxxxxxxxxxxxx line 102
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 104
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 105
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 106
+xxxxxxxxxxxx line 107
+xxxxx line 108
+xxxxxxxxxxxxxxxxxxxx line 109
+//Insert Calling Statement Line: 110   	[210]
+//Insert Calling Statement Line: 111   	[210, 210]
+//Insert Calling Statement Line: 115   	[210]
+xxxxxxxxxx line 116
+//Insert Calling Statement Line: 117   	[202]
+xxxxxxxxxxxxxxxx line 129
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 131
+xxxxxxxxxxxxxxxxxx line 132
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 133
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 135
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 136
+//Insert Calling Statement Line: 137   	[213]
+//Insert Calling Statement Line: 137   	[213]
+xxxxxx line 149
+xxxxxxxxxxxxxxxxxxxxxxx line 150
+
+xxxxxxxxxxxxxxxxxxxxx line 152
+xxxxxxxxxxxxx line 153
+xxxx line 154
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 155
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 157
+xxxxxxxxx line 158
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 159
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 160
+xxxxxxxxxxxxxxxxxxxxx line 161
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 162
+xxxxxx line 163
+xxxxxxxxx line 164
+xxxxxxxxxxxxxxxxxxxx line 165
+xxxxxxxxxxxxx line 166
+xxxxxxxxxxxxxxxxxxxxxxxxx line 167
+xxxxxxxxxxxxxxxxxx line 168
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 169
+xxxxxxxxxxxxxxxxxx line 170
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 171
+xxxxx line 172
+xxxxxxxxxxxxxxx line 173
+xxxxxxxxxxx line 174
+xxxxxxx line 175
+xxxxxxxxxxxxxxxxxxxx line 176
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 177
+xxxxxxxxxxxxx line 178
+
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 181
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 182
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 183
+xxxxxxxxxx line 184
+
+xxxxxxxxxxxxxxxxxxxxx line 186
+xxxxxxxxxxxxxxxxxxxx line 187
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 188
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 189
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 190
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 191
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 192
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 193
+xxxxxxxxxxxxxxxxx line 194
+xxxxxxxxxxxxxxxxxxxx line 195
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 196
+xxxxxxxxxxxxxxxxxxxxx line 197
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 198
+xxxxx line 199
+xxxxxxxxxxx line 200
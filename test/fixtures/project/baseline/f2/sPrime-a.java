@@ -0,0 +1,139 @@
+
+xxxxxxxxxxxxxxxxxxxx line 2
+xxxxxxxxxxxxxxxx line 3
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 4
+
+xxxxxxxxxxxxxxxxxxxxxx line 6
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 7
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 8
+x line 9
+xxxxxxxxx line 10
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 11
+xxxxxxxxxxxxx line 12
+xxxxxxxxxxxxx line 13
+xxxxxxxxxxxxxxxxxxxxxx line 14
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 15
+xxxxxxxxxxx line 16
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 17
+
+
+xxxxxxxxxxx line 20
+//Insert Calling Statement Line: 21   	[312]
+xxxxx line 30
+x line 31
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 32
+xxxxxx line 33
+xxxxxxxxx line 34
+xxxx line 35
+xxxxxxxxxx line 36
+xxxxxxxxxxxxx line 37
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 38
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 40
+xxxxxxxxxxxxxxxxxxxxxxxx line 41
+xxxxxxxxxxxxxxxx line 42
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 43
+xxxxxxxxxxxxxxx line 44
+//Insert Calling Statement Line: 45   	[313]
+//Insert Calling Statement Line: 46   	[313, 313]
+//Insert Calling Statement Line: 48   	[313, 313, 313]
+//Insert Calling Statement Line: 48   	[313, 313, 313]
+//Insert Calling Statement Line: 52   	[312, 313, 313, 313]
+//Insert Calling Statement Line: 52   	[312, 313, 313, 313]
+//Insert Calling Statement Line: 56   	[312, 313]
+xxxxxxxxxxxxxxxxxxxxx line 58
+xxxxxxxxxxxxxxxxxxxxxxxx line 59
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 60
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 61
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 62
+xxxxxxxxxxxxxxxxx line 63
+xxxxxxxxxxxxxxxxxxxxxxxx line 64
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 65
+
+xxxxxxxxxxxx line 67
+xxxx line 68
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 69
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 70
+xxxxxxxxxxxxxxxxxxxxxxxxx line 71
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 72
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 73
+//Insert Calling Statement Line: 74   	[310]
+//Insert Calling Statement Line: 84   	[310, 310]
+//Insert Calling Statement Line: 89   	[310, 310, 312]
+//Insert Calling Statement Line: 90   	[310, 312]
+//Insert Calling Statement Line: 98   	[310]
+
+xxxxxxxxx line 102
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 103
+//Insert Calling Statement Line: 104   	[313]
+//Insert Calling Statement Line: 104   	[313]
+xxxxxxxxxxxxxxxxx line 115
+xxxxxxxxxxxxxxxxxxxx line 116
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 117
+x line 118
+xxxxxxxxxx line 119
+xxxxxxxxxxxxxxx line 120
+xxxxxx line 121
+x line 122
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 123
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 124
+
+xxxxxxxxxxxxxxxxxxxx line 126
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 127
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 128
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 130
+xxxxxxxxxxxxxxxxx line 131
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 132
+//Insert Calling Statement Line: 133   	[310]
+//Insert Calling Statement Line: 133   	[310]
+//Insert Calling Statement Line: 147   	[310, 312]
+//Insert Calling Statement Line: 150   	[312]
+xxxxx line 153
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 154
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 155
+xxxxxx line 156
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 157
+xxxxxxxxxxx line 158
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 159
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 160
+xxxxxxxxxxxx line 161
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 162
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 163
+xx line 164
+xxxxxxxxxxxx line 165
+xxxxxxxxxxxxxxxxxx line 166
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 167
+xxxxxxxxxx line 168
+xxxxxxxxx line 169
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 170
+xxxxxxxxxxxxxxxxxxxxxxx line 171
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 172
+xxxxxxxxxx line 173
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 174
+xxxxxxxx line 175
+xxxxxxxxxxxxxxxxxxx line 176
+xxxxxxxxxxxxxx line 177
+xxxxxxxxxxxxxxxxx line 178
+xxxxxxxxxxxxxxx line 179
+xxxxxxxxxxxxxxxxxxxxx line 180
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 182
+
+xxxxxx line 184
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 186
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 187
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 188
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 189
+xxx line 190
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 191
+xxx line 192
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 193
+xxxxxxxxxxx line 194
+xxxxxxxxxxxxxxxxxxxxx line 195
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 196
+xxxxxxxxxxxxxxxxxx line 197
+xxxxxx line 198
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 199
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 200
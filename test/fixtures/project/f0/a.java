@@ -0,0 +1,200 @@
+xxxxxxxxxxxxxxxxxxx line 1
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 2
+xxxxxxxxxxxxxx line 3
+xxxx line 4
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 5
+xxxxxx line 6
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 7
+xxxxxxxxxxxxxxxx line 8
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 10
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 11
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 12
+xxxxx line 13
+xxxxxxxxxxxxxxxx line 14
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 15
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 16
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 17
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 18
+xxxxxxxx line 19
+xxxxxxxxxxxxxxxxxxxx line 20
+xxxxxxxxxxxxxxxxxxxx line 21
+xxxxxxxxxxxxxxxxx line 22
+xxxxxxxxx line 23
+xxxxxxxxxxxxxxxxxxxxx line 24
+xx line 25
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 26
+xxxxxxxxxxxx line 27
+xxxxxxxxxxxx line 28
+xxxxxxxxxxxxxxxxxxxxxx line 29
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 30
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 31
+xx line 32
+xxxxxxx line 33
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 34
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 35
+xxxxxxxxxxxxxxxxx line 36
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 37
+xxxxxxxxxxxx line 38
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 39
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 40
+xxxxxxxxxxxxxx line 41
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 42
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 43
+xxxxxxxxxxxxxxxxxxxxxxxxx line 44
+xxxxxxxxxxxxxxxxxxxxxxxxx line 45
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 46
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 47
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 48
+xxxxxxxxxxx line 49
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 50
+xx line 51
+xxxxxxxx line 52
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 53
+
+xxxxxxxxxxxxxxxxx line 55
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 56
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 57
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 58
+x line 59
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 60
+xxxxxxxxxxxxxxxxxxxxxxxx line 61
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 62
+xxxxxxxxxxxxxxxxxxxxxxxxx line 63
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 64
+xx line 65
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 66
+x line 67
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 68
+xxxxx line 69
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 70
+xxxxxxxxxxxxxxxxxxxx line 71
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 72
+
+x line 74
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 75
+xxxxxxxxxxxxxxxxxxxxxxx line 76
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 77
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 78
+xxxxxxxxxxxxxxxx line 79
+xxxxxxxxxxxxxxxxxxxxxxxxx line 80
+xxxxxxxxxxxxx line 81
+xxxxxxx line 82
+xxxxxxxx line 83
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 84
+xx line 85
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 86
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 87
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 88
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 89
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 90
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 91
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 92
+xxxxxxxxx line 93
+xxxxxxxx line 94
+xxxxxxxxxxxxxxx line 95
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 96
+xxxxxxxxxxx line 97
+xxxxxxxxxxxxx line 98
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 99
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 100
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 101
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 102
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 103
+xxxxxxx line 104
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 105
+xxxxxx line 106
+xxxxx line 107
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 108
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 109
+xxxxxxxxxxxxxx line 110
+xxxxxxxxx line 111
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 112
+xx line 113
+xxxxx line 114
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 115
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 116
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 117
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 118
+
+xxxxxxxxxxxx line 120
+
+xxxxx line 122
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 123
+xx line 124
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 125
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 126
+xxxxxxxxxxxxxxxxxxxxxxxxx line 127
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 128
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 129
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 131
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 132
+xxxxxxxxxxxxxxxxxxx line 133
+xxxxxxxx line 134
+xxxxxxxxxxxxxxxxxx line 135
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 137
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 138
+xxxxxxxxxxxxxxxxxxxxxxx line 139
+xxxxx line 140
+
+xxxxxxxxxxxx line 142
+xxxxxxxxxxxxxxxxxxxxxxxx line 143
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 144
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 145
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 146
+xxxxxxxxxxxx line 147
+xxxxxxxxxxxxxxxxxxxxxxxx line 148
+xxxxxxxxxxxxxxxxxxxxxx line 149
+xx line 150
+xxxxxx line 151
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 152
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 153
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 154
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 155
+xxxxxxxxxx line 156
+xxxxxxxxxxxxxxx line 157
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 158
+xxxxxxxx line 159
+xxx line 160
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 161
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 162
+
+xxxxxxx line 164
+xxxxxxxxxxxxxxxxx line 165
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 166
+xxxxxxx line 167
+xxxxxxxxxxxxxxxxxxxxxx line 168
+xxxxxxxxxxxxxx line 169
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 170
+xxxx line 171
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 172
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 173
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 174
+xxxxxxxxxxxxx line 175
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 176
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 177
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 178
+
+xxxxxxxxxxxxxx line 180
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 181
+xxxxxxxxxxxxxxxxxxxxx line 182
+xx line 183
+xxx line 184
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 185
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 186
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 187
+xxxxxxx line 188
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 189
+xxxxxxxxx line 190
+xxxxxx line 191
+
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 193
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 194
+xxxx line 195
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 196
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 198
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 199
+xxxxxxxxxxxxxxxxx line 200
@@ -0,0 +1,200 @@
+
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 2
+xxx line 3
+xxxxxxxx line 4
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 5
+xxxxxxxxxx line 6
+xxx line 7
+xxxxxxxxx line 8
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 9
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 10
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 11
+
+
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 14
+xxxxxxxxxxxxxx line 15
+xxxxxxxxxxxxxxxxxxxxxxxx line 16
+xxxxxxxxxxxxxxxx line 17
+xxxxxxxxxxxxxx line 18
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 19
+xxxx line 20
+xxxxxxxxxxxxxxxxxxxxxxx line 21
+xxxxxxxxxx line 22
+xxxxxxxxxxxxxxxxxxxxxxxxx line 23
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 25
+xxxxxxxxxxxxxx line 26
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 27
+xxxxxxxxxxxxx line 28
+xxxxxxxxxxxxxxx line 29
+xxxxxxxxxxxxxxxxx line 30
+xxxxxxxxxxxxxxxxxxxxxx line 31
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 32
+xxxxxxxxxxxxxxxxxxxxx line 33
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 34
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 35
+xxxxxxxxxxxx line 36
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 37
+xxxxxxxxxxxxxxxxxxx line 38
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 40
+xxxxxxx line 41
+xxxxxxxxxxxxxxxxxxx line 42
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 43
+xxxxxxxxxxxxx line 44
+xxxxxxxxxxxxx line 45
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 46
+xxxx line 47
+xxxxxxxx line 48
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 49
+xxxxxxxxxxxxx line 50
+xxxxxxxxxxx line 51
+xxxxxxxxxx line 52
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 53
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 54
+xxxxxxxxxxxxxxxxxxxxxxxx line 55
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 56
+xxx line 57
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 58
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 59
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 60
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 61
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 63
+x line 64
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 66
+xxx line 67
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 68
+xxxx line 69
+xxxxxxxxxxxxxx line 70
+xxxxxxxxxxxxxxxxxxxx line 71
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 72
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 73
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 74
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 75
+xxxxxxxxxxxxx line 76
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 77
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 78
+xxxxxxxxxxxxxxxxxxxxxxxx line 79
+xxxxxxxxxxxxxxxxxxxxxxx line 80
+xxxxxxxxxxxxxxxxxxx line 81
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 82
+xxx line 83
+xxxxxxxx line 84
+xxxxxxxxxxxxxx line 85
+xxxxxxxxxxxxxxxxxxxxxxxxx line 86
+xxxxxxxxxxxxxx line 87
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 88
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 89
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 90
+xxx line 91
+
+xxxxxxxxxxxxxxxxxx line 93
+xxxxxxxxxxxxx line 94
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 95
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 96
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 98
+xxxxxxxxxxxxxx line 99
+xxxxxxxxxxxxxxxxxxxx line 100
+xxxxxxxxxxxxxxxxxxxxxxxx line 101
+xxxxxxxxxxxxxx line 102
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 104
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 105
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 106
+xxxxxxxxxxxx line 107
+xxxxx line 108
+xxxxxxxxxxxxxxxxxxxx line 109
+x line 110
+xxxxxxxxxxxxxxxxxx line 111
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 112
+xxxxxxxxxxxxxxxx line 113
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 114
+xxxxxxxxxxxxxxx line 115
+xxxxxxxxxx line 116
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 117
+xxxxxxx line 118
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 119
+xxxxxxxxxxxxxxxxxxxxxxxx line 120
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 121
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 122
+xxxxxxxxxxxxxxxxx line 123
+xxxxxxxxxxxxxxxxxxxxxxxxx line 124
+xxxxxxxxxxxxxx line 125
+xxxxxxxxxxxxxxx line 126
+xxxx line 127
+xxxxxxxxxxxxxxxx line 128
+xxxxxxxxxxxxxxxx line 129
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 131
+xxxxxxxxxxxxxxxxxx line 132
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 133
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 135
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 136
+xxxx line 137
+xxx line 138
+xxxxxxxxxxxxxxx line 139
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 140
+xxxxx line 141
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 143
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 144
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 145
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 147
+xxxxxxxxxxxxxxxx line 148
+xxxxxx line 149
+xxxxxxxxxxxxxxxxxxxxxxx line 150
+
+xxxxxxxxxxxxxxxxxxxxx line 152
+xxxxxxxxxxxxx line 153
+xxxx line 154
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 155
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 157
+xxxxxxxxx line 158
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 159
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 160
+xxxxxxxxxxxxxxxxxxxxx line 161
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 162
+xxxxxx line 163
+xxxxxxxxx line 164
+xxxxxxxxxxxxxxxxxxxx line 165
+xxxxxxxxxxxxx line 166
+xxxxxxxxxxxxxxxxxxxxxxxxx line 167
+xxxxxxxxxxxxxxxxxx line 168
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 169
+xxxxxxxxxxxxxxxxxx line 170
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 171
+xxxxx line 172
+xxxxxxxxxxxxxxx line 173
+xxxxxxxxxxx line 174
+xxxxxxx line 175
+xxxxxxxxxxxxxxxxxxxx line 176
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 177
+xxxxxxxxxxxxx line 178
+
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 181
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 182
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 183
+xxxxxxxxxx line 184
+
+xxxxxxxxxxxxxxxxxxxxx line 186
+xxxxxxxxxxxxxxxxxxxx line 187
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 188
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 189
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 190
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 191
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 192
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 193
+xxxxxxxxxxxxxxxxx line 194
+xxxxxxxxxxxxxxxxxxxx line 195
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 196
+xxxxxxxxxxxxxxxxxxxxx line 197
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 198
+xxxxx line 199
+xxxxxxxxxxx line 200
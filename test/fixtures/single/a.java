@@ -0,0 +1,300 @@
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 1
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 2
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 3
+
+
+xxxxxxxxxxxxxxxxx line 6
+xxxxxxxxxxxxx line 7
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 8
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 9
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 10
+xxxxxxxxxxxxxxx line 11
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 12
+x line 13
+xxxxx line 14
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 15
+
+xxxxxxxxxxxxxxxxxx line 17
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 18
+xxxxxxxxxxxxxxxxxxxxxxxxx line 19
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 20
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 21
+xxxxxxxxx line 22
+xxxxxxx line 23
+
+xxxxxxxxxxxxxxxxx line 25
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 26
+xxxxxxxxxxxxxxxxxxxx line 27
+xxxxxxxxxxxxxxxxxxxxxxxxx line 28
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 29
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 30
+xxxxxxxxxxxxxxxxxxxxxx line 31
+xx line 32
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 33
+xxxxxxxxxxx line 34
+xxxxxxxxxxxxxxxxxxxxx line 35
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 36
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 37
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 38
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 39
+xxxxxxxx line 40
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 42
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 44
+xx line 45
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 46
+xxxxxxxx line 47
+
+xxx line 49
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 50
+xxxxxxxxxxxxxxxxxx line 51
+xxx line 52
+xxxxx line 53
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 54
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 56
+xxxxxxxxxxxxxxxxx line 57
+xxx line 58
+xxxxxxxxxxxxxxxxxxxxxx line 59
+xxxxxxxxx line 60
+xxxxxxxxxxxxxxxxxxxxxxxxx line 61
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 62
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 63
+xxxxxxx line 64
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 65
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 66
+xxxxxxxxxxxxxxxx line 67
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 68
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 69
+xxxxxxxxxxxxxxxxxxxxxx line 70
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 72
+xxxxxxxxxxxxxxxxxxxxxxxxx line 73
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 74
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 75
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 76
+xxxxxxxxxxxxxxxxxxxxxxx line 77
+xxxxxxxxxxxxxxxxxx line 78
+xx line 79
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 80
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 82
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 83
+xxxxxxxxxxxx line 84
+xxxxxxxxxxxxxxxxxxxxx line 85
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 86
+xxxxxxxxxxxxxxxxxxxxxxxxx line 87
+xx line 88
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 89
+xxxxxxxxxxxxxxxxxxxx line 90
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 91
+xxxxxxxxxxxxxxxx line 92
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 93
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 94
+
+xxxxxxxxxxxxxxxxxxxxxx line 96
+xxxxxxxxxxxxxxx line 97
+xxxxxxxxxxx line 98
+
+xxxxxxxxxxxxxx line 100
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 101
+xxxxxxxx line 102
+
+xxxxxxxxxxxxxxxxxxxxx line 104
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 105
+xxxxxxxxxxxxxxxxxx line 106
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 107
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 109
+xxxxxxxxxxxxxxxxxxx line 110
+xxxxxxxxxxxxxxxxxx line 111
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 112
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 113
+xxx line 114
+xxxxxxxxxx line 115
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 116
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 117
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 118
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 119
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 120
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 121
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 122
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 123
+xxxxxxxxxxxxxxx line 124
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 125
+xxxxxxxx line 126
+xxx line 127
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 129
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 130
+x line 131
+xxxxxxxx line 132
+xxxxxxxxxxxxxxxxxxxx line 133
+xx line 134
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 135
+
+xxxxxxxx line 137
+xxxxxxxxxxxxxxxxx line 138
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 139
+xxxx line 140
+xxxxxxxxxxxxx line 141
+xxxxxxxx line 142
+xxxxxxxxxxxxxxxxxx line 143
+xxxxxxxxx line 144
+x line 145
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 146
+xxxx line 147
+xxxxxxxxxxxxxxxx line 148
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 149
+xxxx line 150
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 151
+xxxx line 152
+xxx line 153
+xxxxx line 154
+xxx line 155
+xxxxxx line 156
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 157
+xxxxxxxxxxxxxxxxxxxxx line 158
+
+xxxxxxxxxxxxxxxxxxxxxxxxx line 160
+xxxxxxxxxxxxxxxxxxxxxxxx line 161
+xxxxxxxxxxxxxxxxxxxxxx line 162
+xxxxxxxxx line 163
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 164
+xxxxxx line 165
+xxx line 166
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 167
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 168
+xxx line 169
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 170
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 172
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 173
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 174
+xxxxxxxxxxxxxxxx line 175
+xxxxxxxxxxxxxxxxxx line 176
+xxxxx line 177
+xxxxxxxxxxxxxxx line 178
+xx line 179
+xxxxxxxxxxxxxxxxxxxxxxxx line 180
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 181
+xxxxxxxxxxxxxxxxx line 182
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 183
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 184
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 185
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 186
+xxxxxxxxxxxxxxxxxxxxx line 187
+xxxxxxx line 188
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 189
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 191
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 192
+
+
+xxxxxxxxxxxx line 195
+xxxxxxxxxxxxxxxxxxxxxx line 196
+xxxxxxxx line 197
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 199
+xxxxxxxxxxxxxxxxxxx line 200
+xxxxxx line 201
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 203
+xxxxxxxxxxxxxxxx line 204
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 205
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 207
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 208
+xxxxx line 209
+xxxxxxxxxxxx line 210
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 211
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 212
+xxxxxxxxxxxxxxxxx line 213
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 214
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 215
+xxxxxx line 216
+xxxxxxxxxxxxxxxx line 217
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 218
+xxxxxxxxxxx line 219
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 220
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 221
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 222
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 223
+xxxxxxxxxx line 224
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 225
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 226
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 227
+xxxxxxxxxxxx line 228
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 229
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 230
+xxxxxxxxxxxxxxx line 231
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 232
+xxxxxxxxxxxxxxxxxxx line 233
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 234
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 235
+xxxxxxxxxxxxxxxxxx line 236
+xxxxxxxxxxxxxxxxxxxx line 237
+
+xxxxxxxxxxxxxxxxxxxxxxxxx line 239
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 240
+xxxxxxxxxxxxxxxxxxxxx line 241
+xxxxxxxxxx line 242
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 243
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 244
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 245
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 246
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 247
+xxxxx line 248
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 249
+xxx line 250
+xxxxxxxxxxxxxxx line 251
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 252
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 253
+
+xxxxxxxxxxxxxxxxx line 255
+xxxxxxxxxxxxx line 256
+xxxxxxxxx line 257
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 258
+xxx line 259
+xxxxxxxxxxxxxxxxx line 260
+xxx line 261
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 262
+
+xxxxxxxx line 264
+
+xxxxxxxxxxxxxxxxxxx line 266
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 268
+x line 269
+
+xxxxxxxxxxxxxxxxxxxxxxxxx line 271
+xxxxxxxxxxxxxx line 272
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 273
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 274
+xxxxxxxxxxxxxxxxxxxxx line 275
+xxxxxxxxxxxxxxxxxx line 276
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 278
+xxxxxxxxxxxxxxxxx line 279
+
+xxxxxxxxxxxxxxxxxxxxxxxx line 281
+xxxxxxxxxxxxxxxxxxxxxxxx line 282
+xxxxxxxxxxxxxxxxxxx line 283
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 284
+xxxxxxxxxxxxxxxxx line 285
+xxxxxxxxxxxxxxxxxxxxxx line 286
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 287
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 288
+xxxxxxxxxxxxxxxxxxxxxxx line 289
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 291
+xxxxxxxxxxxx line 292
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 293
+xxxxxxxxxxxx line 294
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 295
+xxxxxxx line 296
+xxxxxxxxxx line 297
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 298
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 299
+xxxxxxxxxxxxxxxxxxxx line 300
@@ -0,0 +1,208 @@
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 1
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 2
+//Insert Calling Statement Line: 3   	[17]
+//Insert Calling Statement Line: 5   	[17]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 10
+xxxxxxxxxxxxxxx line 11
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 12
+x line 13
+xxxxx line 14
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 15
+
+xxxxxxxxxxxxxxxxxx line 17
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 18
+xxxxxxxxxxxxxxxxxxxxxxxxx line 19
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 20
+//Insert Calling Statement Line: 21   	[14]
+//Insert Calling Statement Line: 21   	[14]
+//Insert Calling Statement Line: 23   	[14, 18]
+//Insert Calling Statement Line: 24   	[14, 18]
+//Insert Calling Statement Line: 27   	[5, 14, 18]
+//Insert Calling Statement Line: 27   	[5, 14, 18]
+//Insert Calling Statement Line: 32   	[5, 14]
+//Insert Calling Statement Line: 34   	[5, 5, 14, 18]
+//Insert Calling Statement Line: 35   	[5, 5, 18]
+//Insert Calling Statement Line: 39   	[5, 18]
+//Insert Calling Statement Line: 41   	[5]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 50
+xxxxxxxxxxxxxxxxxx line 51
+xxx line 52
+//Insert Calling Statement Line: 53   	[18]
+//Insert Calling Statement Line: 53   	[18]
+//Insert Calling Statement Line: 56   	[5, 18]
+//Insert Calling Statement Line: 56   	[5, 18]
+//Insert Calling Statement Line: 58   	[5, 18, 18]
+//Insert Calling Statement Line: 62   	[5, 17, 18]
+//Insert Calling Statement Line: 64   	[5, 17]
+//Insert Calling Statement Line: 65   	[5]
+//Insert Calling Statement Line: 67   	[5, 17]
+//Insert Calling Statement Line: 68   	[17]
+//Insert Calling Statement Line: 69   	[15, 17]
+//Insert Calling Statement Line: 69   	[15, 17]
+//Insert Calling Statement Line: 71   	[15]
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 82
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 83
+xxxxxxxxxxxx line 84
+xxxxxxxxxxxxxxxxxxxxx line 85
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 86
+xxxxxxxxxxxxxxxxxxxxxxxxx line 87
+xx line 88
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 89
+xxxxxxxxxxxxxxxxxxxx line 90
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 91
+xxxxxxxxxxxxxxxx line 92
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 93
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 94
+
+xxxxxxxxxxxxxxxxxxxxxx line 96
+xxxxxxxxxxxxxxx line 97
+xxxxxxxxxxx line 98
+
+xxxxxxxxxxxxxx line 100
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 101
+xxxxxxxx line 102
+
+xxxxxxxxxxxxxxxxxxxxx line 104
+//Insert Calling Statement Line: 105   	[14]
+//Insert Calling Statement Line: 114   	[14, 14]
+//Insert Calling Statement Line: 118   	[14]
+//Insert Calling Statement Line: 126   	[8]
+//Insert Calling Statement Line: 138   	[8, 8]
+//Insert Calling Statement Line: 139   	[8]
+xxxxxxxxxxxxxxxx line 148
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 149
+xxxx line 150
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 151
+xxxx line 152
+xxx line 153
+xxxxx line 154
+xxx line 155
+xxxxxx line 156
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 157
+//Insert Calling Statement Line: 158   	[17]
+//Insert Calling Statement Line: 159   	[17]
+xxx line 166
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 167
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 168
+xxx line 169
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 170
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 172
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 173
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 174
+xxxxxxxxxxxxxxxx line 175
+xxxxxxxxxxxxxxxxxx line 176
+xxxxx line 177
+xxxxxxxxxxxxxxx line 178
+xx line 179
+xxxxxxxxxxxxxxxxxxxxxxxx line 180
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 181
+xxxxxxxxxxxxxxxxx line 182
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 183
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 184
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 185
+//Insert Calling Statement Line: 186   	[15]
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 199
+xxxxxxxxxxxxxxxxxxx line 200
+xxxxxx line 201
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 203
+xxxxxxxxxxxxxxxx line 204
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 205
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 207
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 208
+xxxxx line 209
+xxxxxxxxxxxx line 210
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 211
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 212
+xxxxxxxxxxxxxxxxx line 213
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 214
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 215
+xxxxxx line 216
+xxxxxxxxxxxxxxxx line 217
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 218
+xxxxxxxxxxx line 219
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 220
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 221
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 222
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 223
+xxxxxxxxxx line 224
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 225
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 226
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 227
+xxxxxxxxxxxx line 228
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 229
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 230
+xxxxxxxxxxxxxxx line 231
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 232
+xxxxxxxxxxxxxxxxxxx line 233
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 234
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 235
+xxxxxxxxxxxxxxxxxx line 236
+xxxxxxxxxxxxxxxxxxxx line 237
+
+xxxxxxxxxxxxxxxxxxxxxxxxx line 239
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 240
+xxxxxxxxxxxxxxxxxxxxx line 241
+xxxxxxxxxx line 242
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 243
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 244
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 245
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 246
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 247
+xxxxx line 248
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 249
+xxx line 250
+xxxxxxxxxxxxxxx line 251
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 252
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 253
+
+xxxxxxxxxxxxxxxxx line 255
+xxxxxxxxxxxxx line 256
+xxxxxxxxx line 257
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 258
+xxx line 259
+xxxxxxxxxxxxxxxxx line 260
+xxx line 261
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 262
+
+xxxxxxxx line 264
+
+xxxxxxxxxxxxxxxxxxx line 266
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 268
+x line 269
+
+xxxxxxxxxxxxxxxxxxxxxxxxx line 271
+xxxxxxxxxxxxxx line 272
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 273
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 274
+xxxxxxxxxxxxxxxxxxxxx line 275
+xxxxxxxxxxxxxxxxxx line 276
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 278
+xxxxxxxxxxxxxxxxx line 279
+
+xxxxxxxxxxxxxxxxxxxxxxxx line 281
+xxxxxxxxxxxxxxxxxxxxxxxx line 282
+xxxxxxxxxxxxxxxxxxx line 283
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 284
+xxxxxxxxxxxxxxxxx line 285
+xxxxxxxxxxxxxxxxxxxxxx line 286
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 287
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 288
+xxxxxxxxxxxxxxxxxxxxxxx line 289
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 291
+xxxxxxxxxxxx line 292
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 293
+xxxxxxxxxxxx line 294
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 295
+xxxxxxx line 296
+xxxxxxxxxx line 297
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 298
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 299
+xxxxxxxxxxxxxxxxxxxx line 300
@@ -0,0 +1,178 @@
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 1
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 2
+//Insert Calling Statement Line: 3   	[17]
+//Insert Calling Statement Line: 5   	[17]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 10
+xxxxxxxxxxxxxxx line 11
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 12
+x line 13
+xxxxx line 14
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 15
+
+xxxxxxxxxxxxxxxxxx line 17
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 18
+xxxxxxxxxxxxxxxxxxxxxxxxx line 19
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 20
+//Insert Calling Statement Line: 21   	[14]
+//Insert Calling Statement Line: 21   	[14]
+//Insert Calling Statement Line: 23   	[14, 18]
+//Insert Calling Statement Line: 24   	[14, 18]
+//Insert Calling Statement Line: 27   	[5, 14, 18]
+//Insert Calling Statement Line: 27   	[5, 14, 18]
+//Insert Calling Statement Line: 30   	[5, 12, 14, 18]
+//Insert Calling Statement Line: 32   	[5, 12, 14]
+//Insert Calling Statement Line: 34   	[5, 5, 12, 14, 18]
+//Insert Calling Statement Line: 35   	[5, 5, 12, 18]
+//Insert Calling Statement Line: 39   	[5, 12, 18]
+//Insert Calling Statement Line: 41   	[5, 12]
+//Insert Calling Statement Line: 43   	[5]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 50
+xxxxxxxxxxxxxxxxxx line 51
+xxx line 52
+//Insert Calling Statement Line: 53   	[6, 18]
+//Insert Calling Statement Line: 53   	[6, 18]
+//Insert Calling Statement Line: 56   	[5, 6, 18]
+//Insert Calling Statement Line: 56   	[5, 6, 18]
+//Insert Calling Statement Line: 58   	[5, 6, 18, 18]
+//Insert Calling Statement Line: 60   	[3, 5, 6, 18, 18]
+//Insert Calling Statement Line: 60   	[3, 5, 6, 18, 18]
+//Insert Calling Statement Line: 62   	[3, 5, 6, 17, 18]
+//Insert Calling Statement Line: 64   	[3, 5, 6, 17]
+//Insert Calling Statement Line: 65   	[3, 5, 6]
+//Insert Calling Statement Line: 66   	[3, 5]
+//Insert Calling Statement Line: 67   	[3, 5, 17]
+//Insert Calling Statement Line: 68   	[3, 12, 17]
+//Insert Calling Statement Line: 69   	[12, 15, 17]
+//Insert Calling Statement Line: 69   	[12, 15, 17]
+//Insert Calling Statement Line: 71   	[12, 15]
+//Insert Calling Statement Line: 81   	[12]
+xxxxxxxxxxxxxxxxxxxxx line 85
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 86
+xxxxxxxxxxxxxxxxxxxxxxxxx line 87
+xx line 88
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 89
+xxxxxxxxxxxxxxxxxxxx line 90
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 91
+xxxxxxxxxxxxxxxx line 92
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 93
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 94
+
+//Insert Calling Statement Line: 96   	[3]
+//Insert Calling Statement Line: 98   	[3, 3]
+//Insert Calling Statement Line: 105   	[3, 3, 14]
+//Insert Calling Statement Line: 107   	[3, 14]
+//Insert Calling Statement Line: 112   	[14]
+//Insert Calling Statement Line: 114   	[14, 14]
+//Insert Calling Statement Line: 118   	[14]
+//Insert Calling Statement Line: 126   	[8]
+//Insert Calling Statement Line: 138   	[8, 8]
+//Insert Calling Statement Line: 139   	[8]
+xxxxxxxxxxxxxxxx line 148
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 149
+xxxx line 150
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 151
+xxxx line 152
+xxx line 153
+xxxxx line 154
+xxx line 155
+//Insert Calling Statement Line: 156   	[6]
+//Insert Calling Statement Line: 156   	[6]
+//Insert Calling Statement Line: 158   	[6, 17]
+//Insert Calling Statement Line: 159   	[6, 17]
+//Insert Calling Statement Line: 166   	[6]
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 174
+xxxxxxxxxxxxxxxx line 175
+xxxxxxxxxxxxxxxxxx line 176
+//Insert Calling Statement Line: 177   	[12]
+//Insert Calling Statement Line: 184   	[12, 12]
+//Insert Calling Statement Line: 184   	[12, 12]
+//Insert Calling Statement Line: 186   	[12, 12, 15]
+//Insert Calling Statement Line: 189   	[12, 15]
+//Insert Calling Statement Line: 198   	[12]
+xxxxxx line 201
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 203
+xxxxxxxxxxxxxxxx line 204
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 205
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 207
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 208
+xxxxx line 209
+xxxxxxxxxxxx line 210
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 211
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 212
+xxxxxxxxxxxxxxxxx line 213
+//Insert Calling Statement Line: 214   	[6]
+//Insert Calling Statement Line: 214   	[6]
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 229
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 230
+xxxxxxxxxxxxxxx line 231
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 232
+xxxxxxxxxxxxxxxxxxx line 233
+xxxxxxxxxxxxxxxxxxxxxxxxxxx line 234
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 235
+xxxxxxxxxxxxxxxxxx line 236
+xxxxxxxxxxxxxxxxxxxx line 237
+
+xxxxxxxxxxxxxxxxxxxxxxxxx line 239
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 240
+xxxxxxxxxxxxxxxxxxxxx line 241
+xxxxxxxxxx line 242
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 243
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 244
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 245
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 246
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 247
+xxxxx line 248
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 249
+xxx line 250
+xxxxxxxxxxxxxxx line 251
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 252
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 253
+
+xxxxxxxxxxxxxxxxx line 255
+xxxxxxxxxxxxx line 256
+xxxxxxxxx line 257
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 258
+xxx line 259
+xxxxxxxxxxxxxxxxx line 260
+xxx line 261
+xxxxxxxxxxxxxxxxxxxxxxxxxxxx line 262
+
+xxxxxxxx line 264
+
+xxxxxxxxxxxxxxxxxxx line 266
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 268
+x line 269
+
+xxxxxxxxxxxxxxxxxxxxxxxxx line 271
+xxxxxxxxxxxxxx line 272
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 273
+xxxxxxxxxxxxxxxxxxxxxxxxxx line 274
+xxxxxxxxxxxxxxxxxxxxx line 275
+xxxxxxxxxxxxxxxxxx line 276
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 278
+xxxxxxxxxxxxxxxxx line 279
+
+xxxxxxxxxxxxxxxxxxxxxxxx line 281
+xxxxxxxxxxxxxxxxxxxxxxxx line 282
+xxxxxxxxxxxxxxxxxxx line 283
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 284
+xxxxxxxxxxxxxxxxx line 285
+xxxxxxxxxxxxxxxxxxxxxx line 286
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 287
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 288
+xxxxxxxxxxxxxxxxxxxxxxx line 289
+
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 291
+xxxxxxxxxxxx line 292
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 293
+xxxxxxxxxxxx line 294
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 295
+xxxxxxx line 296
+xxxxxxxxxx line 297
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 298
+xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx line 299
+xxxxxxxxxxxxxxxxxxxx line 300